@@ -0,0 +1,87 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.RqChallengeApplication;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.MediaType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/*
+ * Load test of GET /employee/{id} in blocking (MVC/Tomcat) and reactive (WebFlux/Netty) mode against a
+ * local mock upstream with a fixed latency. Client concurrency is above the Tomcat thread pool size, so
+ * the blocking mode is capped at roughly threads / upstream latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(512)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ApiModeThroughputBenchmark {
+
+    private static final int UPSTREAM_DELAY_MILLIS = 50;
+
+    @Param({"blocking", "reactive"})
+    private String mode;
+
+    private ClientAndServer upstream;
+
+    private ConfigurableApplicationContext application;
+
+    private HttpClient httpClient;
+
+    private String employeeUrl;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        upstream = ClientAndServer.startClientAndServer();
+        upstream.when(request().withMethod("GET").withPath("/api/v1/employee/.*"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody("{\"status\":\"success\",\"data\":{\"id\":1,\"employee_name\":\"Pranam Raghuram\","
+                                + "\"employee_salary\":30000,\"employee_age\":32,\"profile_image\":\"\"}}")
+                        .withDelay(TimeUnit.MILLISECONDS, UPSTREAM_DELAY_MILLIS));
+
+        application = new SpringApplicationBuilder(RqChallengeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "dummy.rest.api.endpoint=http://localhost:" + upstream.getLocalPort(),
+                        "employee.api.mode=" + mode,
+                        "spring.main.web-application-type=" + ("reactive".equals(mode) ? "reactive" : "servlet"),
+                        "employee.api.pool.max-connections=1024",
+                        "employee.api.pool.warmup-connections=0",
+                        "logging.level.com.example.rqchallenge=WARN")
+                .run();
+
+        Integer port = application.getEnvironment().getProperty("local.server.port", Integer.class);
+        employeeUrl = "http://localhost:" + port + "/employee/";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @Benchmark
+    public int getEmployeeById() throws Exception {
+        // Distinct ids, so that request coalescing does not hide the upstream latency
+        String id = Integer.toString(ThreadLocalRandom.current().nextInt(1, 1_000_000));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(employeeUrl + id)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+        upstream.stop();
+    }
+}
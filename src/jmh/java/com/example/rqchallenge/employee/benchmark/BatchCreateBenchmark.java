@@ -0,0 +1,94 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.RqChallengeApplication;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.MediaType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/*
+ * Records per second through POST /employee/batch against a local mock upstream with a fixed create
+ * latency, for several pipeline concurrencies. The rate limit is raised out of the way; concurrency=1
+ * matches the old one-request-at-a-time onboarding loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchCreateBenchmark.BATCH_SIZE)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class BatchCreateBenchmark {
+
+    static final int BATCH_SIZE = 200;
+
+    private static final int UPSTREAM_DELAY_MILLIS = 20;
+
+    @Param({"1", "4", "16", "64"})
+    private int concurrency;
+
+    private ClientAndServer upstream;
+
+    private ConfigurableApplicationContext application;
+
+    private HttpClient httpClient;
+
+    private HttpRequest batchRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        upstream = ClientAndServer.startClientAndServer();
+        upstream.when(request().withMethod("POST").withPath("/api/v1/create"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody("{\"status\":\"success\",\"data\":{\"name\":\"Pranam Raghuram\",\"salary\":\"30000\","
+                                + "\"age\":\"32\",\"id\":25}}")
+                        .withDelay(TimeUnit.MILLISECONDS, UPSTREAM_DELAY_MILLIS));
+
+        application = new SpringApplicationBuilder(RqChallengeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "dummy.rest.api.endpoint=http://localhost:" + upstream.getLocalPort(),
+                        "employee.api.pool.max-connections=128",
+                        "employee.api.pool.warmup-connections=0",
+                        "employee.api.rate-limit.permits-per-second=1000000",
+                        "employee.api.rate-limit.burst=1000000",
+                        "employee.batch.create.concurrency=" + concurrency,
+                        "logging.level.com.example.rqchallenge=WARN")
+                .run();
+
+        StringJoiner records = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            records.add("{\"name\":\"Employee " + i + "\",\"salary\":" + (30000 + i) + ",\"age\":32}");
+        }
+        Integer port = application.getEnvironment().getProperty("local.server.port", Integer.class);
+        batchRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/employee/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(records.toString()))
+                .build();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @Benchmark
+    public int createBatch() throws Exception {
+        return httpClient.send(batchRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+        upstream.stop();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/*
+ * Deterministic synthetic employees and upstream payloads for the benchmarks
+ */
+public final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {
+            "Naruto", "Garrett", "Ashton", "Taylor", "Airi", "Mary", "Harry", "Shane", "Pranam", "Hemant",
+            "Sanjay", "Rani", "Doris", "Gloria", "Haley", "Yuri", "Ted", "Alex", "David", "Mark"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Uzumaki", "Winters", "Cox", "Swift", "Satou", "Cooper", "Potter", "Warner", "Raghuram", "Bhat",
+            "Iyer", "Chadda", "Wilder", "Little", "Kennedy", "Gagarin", "Mosbey", "Stain", "Litt", "Tyson"
+    };
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private BenchmarkData() {
+    }
+
+    public static List<Employee> employees(int count) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Employee employee = new Employee();
+            employee.setId((long) i);
+            employee.setEmployeeName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + Integer.toString(i, 36));
+            employee.setEmployeeSalary(20_000 + random.nextInt(980_000));
+            employee.setEmployeeAge(18 + random.nextInt(50));
+            employee.setProfileImage("");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /*
+     * Field injection for wiring services outside a Spring context
+     */
+    public static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /*
+     * Snapshot cache that never expires, so benchmarks measure reads of one loaded snapshot
+     */
+    public static EmployeeSnapshotCache employeeSnapshotCache(List<Employee> employees) {
+        RestApiServiceClient<List<Employee>, Void> getAllEmployeesClient = request -> Mono.just(employees);
+        EmployeeSnapshotCache employeeSnapshotCache = new EmployeeSnapshotCache();
+        inject(employeeSnapshotCache, "getAllEmployeesClient", getAllEmployeesClient);
+        inject(employeeSnapshotCache, "ttlMillis", Long.MAX_VALUE / 4);
+        inject(employeeSnapshotCache, "maxStaleMillis", Long.MAX_VALUE / 4);
+        return employeeSnapshotCache;
+    }
+
+    public static EmployeeByIdCache employeeByIdCache(EmployeeSnapshotCache employeeSnapshotCache) {
+        EmployeeByIdCache employeeByIdCache = new EmployeeByIdCache();
+        inject(employeeByIdCache, "employeeSnapshotCache", employeeSnapshotCache);
+        inject(employeeByIdCache, "meterRegistry", new SimpleMeterRegistry());
+        inject(employeeByIdCache, "maxWeightBytes", 16L << 20);
+        inject(employeeByIdCache, "ttlMillis", 60_000L);
+        employeeByIdCache.init();
+        return employeeByIdCache;
+    }
+
+    /*
+     * Same envelope as the upstream list employees response
+     */
+    public static byte[] allEmployeesResponse(List<Employee> employees) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            mapper.writeValue(out, Map.of(
+                    "status", "success",
+                    "data", employees,
+                    "message", "Successfully! All records has been fetched."));
+            return out.toByteArray();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.index.EmployeeColumns;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Analytics scans (salary sum and max, an age filter) over the employee object list against the
+ * primitive columns. Setup prints an estimate of the retained bytes per employee of each layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarStoreBenchmark {
+
+    private static final int MIN_AGE = 30;
+
+    private static final int MAX_AGE = 40;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int employeeCount;
+
+    private List<Employee> employees;
+
+    private EmployeeColumns columns;
+
+    @Setup
+    public void setup() {
+        long before = usedHeap();
+        employees = BenchmarkData.employees(employeeCount);
+        long afterList = usedHeap();
+        columns = new EmployeeColumns(employees);
+        long afterColumns = usedHeap();
+        System.out.printf("%n[ColumnarStore]: ~%d bytes per employee as objects, ~%d bytes per employee as columns%n",
+                (afterList - before) / employeeCount, (afterColumns - afterList) / employeeCount);
+    }
+
+    @Benchmark
+    public long salarySumObjects() {
+        long sum = 0;
+        for (Employee employee : employees) {
+            if (employee.getEmployeeSalary() != null) {
+                sum += employee.getEmployeeSalary();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long salarySumColumns() {
+        long sum = 0;
+        for (int position = 0; position < columns.size(); position++) {
+            if (columns.hasSalary(position)) {
+                sum += columns.salary(position);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int salaryMaxObjects() {
+        int max = Integer.MIN_VALUE;
+        for (Employee employee : employees) {
+            if (employee.getEmployeeSalary() != null) {
+                max = Math.max(max, employee.getEmployeeSalary());
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int salaryMaxColumns() {
+        int max = Integer.MIN_VALUE;
+        for (int position = 0; position < columns.size(); position++) {
+            if (columns.hasSalary(position)) {
+                max = Math.max(max, columns.salary(position));
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int ageFilterObjects() {
+        int matches = 0;
+        for (Employee employee : employees) {
+            Integer age = employee.getEmployeeAge();
+            if (age != null && age >= MIN_AGE && age <= MAX_AGE) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int ageFilterColumns() {
+        int matches = 0;
+        for (int position = 0; position < columns.size(); position++) {
+            int age = columns.age(position);
+            if (columns.hasAge(position) && age >= MIN_AGE && age <= MAX_AGE) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
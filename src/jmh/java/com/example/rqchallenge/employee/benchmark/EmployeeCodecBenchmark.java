@@ -0,0 +1,92 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.codec.EmployeeBinaryCodec;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Encoding and decoding employee lists with EmployeeBinaryCodec against Jackson JSON and default
+ * Java serialization. Setup prints the encoded size of each; run with the gc profiler to compare
+ * gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeCodecBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final ObjectReader listReader = mapper.readerForListOf(Employee.class);
+
+    @Param({"1000", "100000"})
+    private int employeeCount;
+
+    private ArrayList<Employee> employees;
+
+    private byte[] binary;
+
+    private byte[] json;
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        employees = new ArrayList<>(BenchmarkData.employees(employeeCount));
+        binary = binaryEncode();
+        json = jacksonEncode();
+        serialized = javaSerializationEncode();
+        System.out.printf("%n[EmployeeCodec]: binary %d bytes, json %d bytes, java serialization %d bytes%n",
+                binary.length, json.length, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return EmployeeBinaryCodec.encode(employees);
+    }
+
+    @Benchmark
+    public List<Employee> binaryDecode() {
+        return EmployeeBinaryCodec.decode(binary);
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return mapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<Employee> jacksonDecode() throws IOException {
+        return listReader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] javaSerializationEncode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(employees);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Employee> javaSerializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (List<Employee>) input.readObject();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.api.integration.EmployeeListStreamDecoder;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Decoding the list employees payload: String + JsonNode tree + list binding (the previous
+ * GetAllEmployees path) against the streaming decoder fed in network-sized chunks.
+ * Run with the gc profiler to compare gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeListDecodeBenchmark {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int employeeCount;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        payload = BenchmarkData.allEmployeesResponse(BenchmarkData.employees(employeeCount));
+    }
+
+    @Benchmark
+    public List<Employee> treeModel() throws IOException {
+        String body = new String(payload, StandardCharsets.UTF_8);
+        JsonNode dataNode = mapper.readTree(body).at("/data");
+        return mapper.readerForListOf(Employee.class).readValue(dataNode);
+    }
+
+    @Benchmark
+    public List<Employee> streaming() {
+        EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(mapper);
+        List<Employee> employees = new ArrayList<>();
+        for (int offset = 0; offset < payload.length; offset += CHUNK_SIZE) {
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, payload.length - offset)];
+            System.arraycopy(payload, offset, chunk, 0, chunk.length);
+            employees.addAll(decoder.feed(chunk));
+        }
+        employees.addAll(decoder.endOfInput());
+        return employees;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.service.impl.EmployeeService;
+import com.example.rqchallenge.employee.util.HotPathLog;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+ * EmployeeService read paths over a warm snapshot of synthetic employees, next to the linear
+ * implementations they replaced (the legacy* benchmarks).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeServiceBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int employeeCount;
+
+    @Param({"Pranam Rag"})
+    private String searchString;
+
+    private List<Employee> employees;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setup() {
+        employees = BenchmarkData.employees(employeeCount);
+        EmployeeSnapshotCache employeeSnapshotCache = BenchmarkData.employeeSnapshotCache(employees);
+
+        employeeService = new EmployeeService();
+        BenchmarkData.inject(employeeService, "employeeSnapshotCache", employeeSnapshotCache);
+        BenchmarkData.inject(employeeService, "hotPathLog", new HotPathLog(HotPathLog.Mode.SUMMARY, 100, 5, 512));
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch(searchString);
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public List<String> getTop10HighestEarningEmployeeNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<Employee> legacyNameSearch() {
+        return employees.stream()
+                .filter(employee -> StringUtils.containsIgnoreCase(employee.getEmployeeName(), searchString))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Integer legacyHighestSalary() {
+        Integer maxSalary = Integer.MIN_VALUE;
+        for (Employee employee : employees) {
+            if (employee.getEmployeeSalary() > maxSalary)
+                maxSalary = employee.getEmployeeSalary();
+        }
+        return maxSalary;
+    }
+
+    @Benchmark
+    public List<String> legacyTopTenHighestEarningEmployeeNames() {
+        PriorityQueue<Employee> priorityQueue = new PriorityQueue<>(Comparator.comparingInt(Employee::getEmployeeSalary));
+        for (Employee employee : employees) {
+            priorityQueue.add(employee);
+            if (priorityQueue.size() > 10) {
+                priorityQueue.poll();
+            }
+        }
+        List<String> employeeNames = priorityQueue.stream().map(Employee::getEmployeeName).collect(Collectors.toList());
+        Collections.reverse(employeeNames);
+        return employeeNames;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.util.ContentEncoding;
+import com.example.rqchallenge.employee.util.EncodedBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-request cost of the GET /employee body: serializing (and compressing) the list on every
+ * request against serving the buffers an EncodedBody keeps. Setup prints the size of each coding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodedBodyBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Param({"1000", "100000"})
+    private int employeeCount;
+
+    @Param({"IDENTITY", "GZIP", "DEFLATE"})
+    private ContentEncoding encoding;
+
+    private List<Employee> employees;
+
+    private EncodedBody encodedBody;
+
+    @Setup
+    public void setup() throws IOException {
+        employees = BenchmarkData.employees(employeeCount);
+        encodedBody = new EncodedBody(employees, mapper.writeValueAsBytes(employees));
+        System.out.printf("%n[EncodedBody]: %s %d bytes%n", encoding.getToken(), encodedBody.bytes(encoding).length);
+    }
+
+    @Benchmark
+    public byte[] serializePerRequest() throws IOException {
+        return encoding.encode(mapper.writeValueAsBytes(employees));
+    }
+
+    @Benchmark
+    public byte[] preEncoded() {
+        return encodedBody.isOf(employees) ? encodedBody.bytes(encoding) : null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.service.impl.EmployeeService;
+import com.example.rqchallenge.employee.util.HotPathLog;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * EmployeeService request latency with INFO logging to a file, in FULL and SUMMARY mode, written
+ * synchronously or through the async appender used by logback-spring.xml.
+ * FULL with SYNC is the closest to the previous logging.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotPathLoggingBenchmark {
+
+    @Param({"FULL", "SUMMARY"})
+    private HotPathLog.Mode mode;
+
+    @Param({"SYNC", "ASYNC"})
+    private String appender;
+
+    @Param({"10000"})
+    private int employeeCount;
+
+    @Param({"Uzumaki"})
+    private String searchString;
+
+    private EmployeeService employeeService;
+
+    private Logger serviceLogger;
+
+    private Appender<ILoggingEvent> logAppender;
+
+    private File logFile;
+
+    @Setup
+    public void setup() throws IOException {
+        List<Employee> employees = BenchmarkData.employees(employeeCount);
+        RestApiServiceClient<Optional<Employee>, String> getEmployeeByIdClient =
+                empId -> Mono.just(Optional.of(employees.get(Integer.parseInt(empId) - 1)));
+
+        EmployeeSnapshotCache employeeSnapshotCache = BenchmarkData.employeeSnapshotCache(employees);
+        EmployeeByIdCache employeeByIdCache = BenchmarkData.employeeByIdCache(employeeSnapshotCache);
+
+        employeeService = new EmployeeService();
+        BenchmarkData.inject(employeeService, "employeeSnapshotCache", employeeSnapshotCache);
+        BenchmarkData.inject(employeeService, "employeeByIdCache", employeeByIdCache);
+        BenchmarkData.inject(employeeService, "getEmployeeByIdClient", getEmployeeByIdClient);
+        BenchmarkData.inject(employeeService, "hotPathLog", new HotPathLog(mode, 100, 5, 512));
+        employeeService.getAllEmployees();
+
+        logFile = File.createTempFile("hot-path-logging", ".log");
+        logFile.deleteOnExit();
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(loggerContext);
+        fileAppender.setFile(logFile.getAbsolutePath());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+        logAppender = fileAppender;
+
+        if ("ASYNC".equals(appender)) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            logAppender = asyncAppender;
+        }
+
+        serviceLogger = loggerContext.getLogger("com.example.rqchallenge.employee");
+        serviceLogger.setLevel(Level.INFO);
+        serviceLogger.setAdditive(false);
+        serviceLogger.addAppender(logAppender);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serviceLogger.detachAppender(logAppender);
+        logAppender.stop();
+        serviceLogger.setLevel(null);
+        serviceLogger.setAdditive(true);
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch(searchString);
+    }
+
+    @Benchmark
+    public Employee getEmployeeById() {
+        return employeeService.getEmployeeById("42");
+    }
+
+    @Benchmark
+    public List<String> getTop10HighestEarningEmployeeNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames();
+    }
+}
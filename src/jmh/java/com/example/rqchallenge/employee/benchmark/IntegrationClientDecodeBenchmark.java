@@ -0,0 +1,72 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.api.integration.GetAllEmployees;
+import com.example.rqchallenge.employee.api.integration.GetEmployeeById;
+import com.example.rqchallenge.employee.dto.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * GetAllEmployees and GetEmployeeById end to end, with the network replaced by an in-memory exchange
+ * function, so the numbers are the client's response handling and JSON decoding only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IntegrationClientDecodeBenchmark {
+
+    private static final String EMPLOYEE_BY_ID_RESPONSE = "{\"status\":\"success\",\"data\":{\"id\":1,"
+            + "\"employee_name\":\"Naruto Uzumaki\",\"employee_salary\":320800,\"employee_age\":61,\"profile_image\":\"\"},"
+            + "\"message\":\"Successfully! Record has been fetched.\"}";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int employeeCount;
+
+    private GetAllEmployees getAllEmployees;
+
+    private GetEmployeeById getEmployeeById;
+
+    @Setup
+    public void setup() {
+        String allEmployeesResponse = new String(
+                BenchmarkData.allEmployeesResponse(BenchmarkData.employees(employeeCount)), StandardCharsets.UTF_8);
+
+        getAllEmployees = new GetAllEmployees();
+        BenchmarkData.inject(getAllEmployees, "webClient", inMemoryWebClient(allEmployeesResponse));
+
+        getEmployeeById = new GetEmployeeById();
+        BenchmarkData.inject(getEmployeeById, "webClient", inMemoryWebClient(EMPLOYEE_BY_ID_RESPONSE));
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return getAllEmployees.execute(null);
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeById() {
+        return getEmployeeById.execute("1");
+    }
+
+    private static WebClient inMemoryWebClient(String body) {
+        return WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.api.integration.EmployeeListStreamDecoder;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshot;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotFile;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Time to a servable snapshot at startup: reading the on-disk snapshot file against decoding the
+ * upstream JSON payload, both including the index build. Single shot, as a restart is.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SnapshotStartupBenchmark {
+
+    @Param({"1000000"})
+    private int employeeCount;
+
+    private Path file;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        List<Employee> employees = BenchmarkData.employees(employeeCount);
+        file = Files.createTempFile("employee-snapshot", ".bin");
+        EmployeeSnapshotFile.write(file, employees, System.currentTimeMillis());
+        payload = BenchmarkData.allEmployeesResponse(employees);
+        System.out.printf("%n[SnapshotStartup]: snapshot file %d bytes, upstream payload %d bytes%n", Files.size(file), payload.length);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public EmployeeSnapshot fromSnapshotFile() throws IOException {
+        return EmployeeSnapshotFile.read(file);
+    }
+
+    @Benchmark
+    public EmployeeSnapshot fromUpstreamPayload() {
+        EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(new ObjectMapper());
+        List<Employee> employees = new ArrayList<>(decoder.feed(payload));
+        employees.addAll(decoder.endOfInput());
+        return new EmployeeSnapshot(employees, System.currentTimeMillis());
+    }
+}
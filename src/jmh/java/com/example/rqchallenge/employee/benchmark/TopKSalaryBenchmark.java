@@ -0,0 +1,75 @@
+package com.example.rqchallenge.employee.benchmark;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.index.SalaryAggregate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Top and bottom K by salary at 1M employees: the snapshot's SalaryAggregate, which walks a salary
+ * order built on load, against a bounded PriorityQueue<Employee> over the list per request.
+ * Run with the gc profiler to compare gc.alloc.rate.norm. allTied gives every employee the same salary,
+ * the worst case for bottom K, which starts from the front of the lowest run of ties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopKSalaryBenchmark {
+
+    private static final Comparator<Employee> BY_SALARY = Comparator.comparingInt(Employee::getEmployeeSalary);
+
+    @Param({"1000000"})
+    private int employeeCount;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int k;
+
+    @Param({"false", "true"})
+    private boolean allTied;
+
+    private List<Employee> employees;
+
+    private SalaryAggregate salaryAggregate;
+
+    @Setup
+    public void setup() {
+        employees = BenchmarkData.employees(employeeCount);
+        if (allTied) {
+            employees.forEach(employee -> employee.setEmployeeSalary(50000));
+        }
+        salaryAggregate = new SalaryAggregate(employees);
+    }
+
+    @Benchmark
+    public List<Employee> aggregateTop() {
+        return salaryAggregate.top(k);
+    }
+
+    @Benchmark
+    public List<Employee> aggregateBottom() {
+        return salaryAggregate.bottom(k);
+    }
+
+    @Benchmark
+    public List<Employee> priorityQueueTop() {
+        PriorityQueue<Employee> heap = new PriorityQueue<>(k + 1, BY_SALARY);
+        for (Employee employee : employees) {
+            heap.offer(employee);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Employee> top = new ArrayList<>(heap);
+        top.sort(Collections.reverseOrder(BY_SALARY));
+        return top;
+    }
+}
@@ -18,14 +18,15 @@ import java.util.Map;
 public class CreateEmployee implements RestApiServiceClient<Employee, Map<String, Object>> {
 
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private WebClient webClient;
 
     private final String createEmployeeApiPath = "/api/v1/create";
 
     @Override
-    public Employee execute(Map<String, Object> request) {
-        Employee employee = webClientBuilder.build().post()
+    public Mono<Employee> executeAsync(Map<String, Object> request) {
+        return webClient.post()
                 .uri(uriBuilder -> uriBuilder.path(createEmployeeApiPath).build())
+                .attribute(MetricsExchangeFilter.CLIENT_ATTRIBUTE, "createEmployeeClient")
                 .bodyValue(request)
                 .retrieve()
                 .onStatus(
@@ -53,7 +54,8 @@ public class CreateEmployee implements RestApiServiceClient<Employee, Map<String
 
                     return employeeObject;
                 })
-                .block();
-        return employee;
+                .name(MetricsExchangeFilter.CALLS_METRIC)
+                .tag("client", "createEmployeeClient")
+                .metrics();
     }
 }
@@ -17,14 +17,15 @@ import java.util.LinkedHashMap;
 public class DeleteEmployeeById implements RestApiServiceClient<String, String> {
 
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private WebClient webClient;
 
     private final String deleteEmployeeApiPath = "/api/v1/delete/{id}";
 
     @Override
-    public String execute(String empId) {
-        String status = webClientBuilder.build().delete()
+    public Mono<String> executeAsync(String empId) {
+        return webClient.delete()
                 .uri(uriBuilder -> uriBuilder.path(deleteEmployeeApiPath).build(empId))
+                .attribute(MetricsExchangeFilter.CLIENT_ATTRIBUTE, "deleteEmployeeByIdClient")
                 .retrieve()
                 .onStatus(
                         httpStatus -> httpStatus.value() == 429,
@@ -45,7 +46,8 @@ public class DeleteEmployeeById implements RestApiServiceClient<String, String>
                     }
                     return responseAsKVPair.get("status");
                 })
-                .block();
-        return status;
+                .name(MetricsExchangeFilter.CALLS_METRIC)
+                .tag("client", "deleteEmployeeByIdClient")
+                .metrics();
     }
 }
@@ -0,0 +1,160 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.exception.ApiResponseJsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * Incremental decoder for the list employees response.
+ *
+ * Chunks of the body are fed to a non-blocking Jackson parser as they arrive. Everything outside
+ * the top level "data" array is skipped token by token, and each element of "data" is buffered and
+ * bound on its own, so at most one employee record is held in token form at any time.
+ * One instance decodes one response.
+ */
+public class EmployeeListStreamDecoder {
+
+    private enum Mode { SEEKING_DATA, EXPECTING_ARRAY, IN_ARRAY, DONE }
+
+    private final ObjectMapper mapper;
+
+    private final ObjectReader employeeReader;
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private Mode mode = Mode.SEEKING_DATA;
+
+    private int depth;
+
+    private TokenBuffer record;
+
+    private int recordDepth;
+
+    public EmployeeListStreamDecoder(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.employeeReader = mapper.readerFor(Employee.class);
+        try {
+            this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException ioException) {
+            throw new ApiResponseJsonParseException();
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /*
+     * Returns the employees completed by this chunk.
+     */
+    public List<Employee> feed(byte[] chunk, int offset, int length) {
+        try {
+            feeder.feedInput(chunk, offset, offset + length);
+            return drain();
+        } catch (IOException ioException) {
+            throw new ApiResponseJsonParseException();
+        }
+    }
+
+    public List<Employee> feed(byte[] chunk) {
+        return feed(chunk, 0, chunk.length);
+    }
+
+    /*
+     * Returns any employees completed by the end of the body; fails when no complete "data" array was seen.
+     */
+    public List<Employee> endOfInput() {
+        try {
+            feeder.endOfInput();
+            List<Employee> employees = drain();
+            if (mode != Mode.DONE) {
+                throw new ApiResponseJsonParseException();
+            }
+            parser.close();
+            return employees;
+        } catch (IOException ioException) {
+            throw new ApiResponseJsonParseException();
+        }
+    }
+
+    private List<Employee> drain() throws IOException {
+        List<Employee> employees = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            Employee employee = onToken(token);
+            if (employee != null) {
+                if (employees == null) {
+                    employees = new ArrayList<>();
+                }
+                employees.add(employee);
+            }
+        }
+        return employees == null ? Collections.emptyList() : employees;
+    }
+
+    private Employee onToken(JsonToken token) throws IOException {
+        if (record != null) {
+            return onRecordToken(token);
+        }
+
+        switch (mode) {
+            case SEEKING_DATA:
+                if (token == JsonToken.FIELD_NAME && depth == 1 && "data".equals(parser.getCurrentName())) {
+                    mode = Mode.EXPECTING_ARRAY;
+                }
+                break;
+            case EXPECTING_ARRAY:
+                // A null "data" is a malformed response, not an empty list
+                if (token != JsonToken.START_ARRAY) {
+                    throw new ApiResponseJsonParseException();
+                }
+                mode = Mode.IN_ARRAY;
+                break;
+            case IN_ARRAY:
+                if (token == JsonToken.START_OBJECT) {
+                    record = new TokenBuffer(mapper, false);
+                    recordDepth = 0;
+                    return onRecordToken(token);
+                }
+                if (token == JsonToken.END_ARRAY) {
+                    mode = Mode.DONE;
+                } else if (token != JsonToken.VALUE_NULL) {
+                    throw new ApiResponseJsonParseException();
+                }
+                break;
+            default:
+                break;
+        }
+        trackDepth(token);
+        return null;
+    }
+
+    private Employee onRecordToken(JsonToken token) throws IOException {
+        record.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            recordDepth++;
+        } else if (token.isStructEnd() && --recordDepth == 0) {
+            Employee employee = employeeReader.readValue(record.asParser(mapper));
+            record = null;
+            return employee;
+        }
+        return null;
+    }
+
+    private void trackDepth(JsonToken token) {
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+    }
+}
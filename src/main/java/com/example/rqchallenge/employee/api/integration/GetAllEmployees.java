@@ -1,13 +1,14 @@
 package com.example.rqchallenge.employee.api.integration;
 
 import com.example.rqchallenge.employee.dto.Employee;
-import com.example.rqchallenge.employee.exception.ApiResponseJsonParseException;
 import com.example.rqchallenge.employee.exception.InternalServerError;
 import com.example.rqchallenge.employee.exception.TooManyRequestException;
-import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import org.springframework.http.HttpStatus;
 
@@ -17,43 +18,77 @@ import java.util.List;
 public class GetAllEmployees implements RestApiServiceClient<List<Employee>, Void> {
 
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private WebClient webClient;
 
     private final String getAllEmployeesApiPath = "/api/v1/employees";
 
+    private final RequestCoalescer<String, List<Employee>> requestCoalescer = new RequestCoalescer<>();
+
+    @Override
+    public Mono<List<Employee>> executeAsync(Void request) {
+        return requestCoalescer.execute(getAllEmployeesApiPath, this::fetchAllEmployees);
+    }
+
+    /*
+     * Emits the employees decoded from each body chunk as soon as the chunk arrives. Not coalesced here,
+     * EmployeeSnapshotCache shares one stream between concurrent readers.
+     */
     @Override
-    public List<Employee> execute(Void request) {
-        List<Employee> employees =
-                webClientBuilder.build().get()
-                    .uri(uriBuilder -> uriBuilder.path(getAllEmployeesApiPath).build())
-                    .retrieve()
-                    .onStatus(
-                            httpStatus -> httpStatus.value() == 429,
-                            clientResponse -> Mono.just(new TooManyRequestException())
-                    )
-                    .onStatus(
-                        HttpStatus::is5xxServerError,
-                        clientResponse -> Mono.just(new InternalServerError(clientResponse.rawStatusCode()))
-                    )
-                    .toEntity(String.class)
-                    .map(apiResponse -> {
-                        List<Employee> employeeList;
-                        try {
-                            JsonNode apiResponseNode = mapper.readTree(apiResponse.getBody());
-                            /*
-                            * Sample response
-                            * {"status":"success","data":[{"id":1,"employee_name":"Tiger Nixon","employee_salary":320800,"employee_age":61,"profile_image":""},{"id":2,"employee_name":"Garrett Winters","employee_salary":170750,"employee_age":63,"profile_image":""}],"message":"Successfully! All records has been fetched."}
-                            */
-                            JsonNode dataNode = apiResponseNode.at("/data");
-                            employeeList = mapper.readerForListOf(Employee.class).readValue(dataNode);
-
-                        } catch (Exception ioException) {
-                            throw new ApiResponseJsonParseException();
-                        }
-
-                        return employeeList;
-                    })
-                    .block();
-        return employees;
+    public Flux<List<Employee>> executeStream(Void request) {
+        return streamAllEmployees()
+                .filter(employees -> !employees.isEmpty())
+                .name(MetricsExchangeFilter.CALLS_METRIC)
+                .tag("client", "getAllEmployeesClient")
+                .metrics();
+    }
+
+    private Mono<List<Employee>> fetchAllEmployees() {
+        return streamAllEmployees()
+                .concatMapIterable(employees -> employees)
+                .collectList()
+                .name(MetricsExchangeFilter.CALLS_METRIC)
+                .tag("client", "getAllEmployeesClient")
+                .metrics();
+    }
+
+    private Flux<List<Employee>> streamAllEmployees() {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(getAllEmployeesApiPath).build())
+                .attribute(MetricsExchangeFilter.CLIENT_ATTRIBUTE, "getAllEmployeesClient")
+                .retrieve()
+                .onStatus(
+                        httpStatus -> httpStatus.value() == 429,
+                        clientResponse -> Mono.just(new TooManyRequestException())
+                )
+                .onStatus(
+                    HttpStatus::is5xxServerError,
+                    clientResponse -> Mono.just(new InternalServerError(clientResponse.rawStatusCode()))
+                )
+                .bodyToFlux(DataBuffer.class)
+                .transform(this::decodeEmployees);
+    }
+
+    /*
+     * Sample response
+     * {"status":"success","data":[{"id":1,"employee_name":"Tiger Nixon","employee_salary":320800,"employee_age":61,"profile_image":""},{"id":2,"employee_name":"Garrett Winters","employee_salary":170750,"employee_age":63,"profile_image":""}],"message":"Successfully! All records has been fetched."}
+     *
+     * Employees are decoded one at a time as the body arrives instead of buffering it as a String and a JsonNode tree.
+     */
+    private Flux<List<Employee>> decodeEmployees(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(mapper);
+            return body.map(dataBuffer -> feed(decoder, dataBuffer))
+                    .concatWith(Mono.fromCallable(decoder::endOfInput));
+        });
+    }
+
+    private List<Employee> feed(EmployeeListStreamDecoder decoder, DataBuffer dataBuffer) {
+        try {
+            byte[] chunk = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(chunk);
+            return decoder.feed(chunk);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
     }
 }
\ No newline at end of file
@@ -17,15 +17,21 @@ import java.util.Optional;
 public class GetEmployeeById implements RestApiServiceClient<Optional<Employee>, String> {
 
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private WebClient webClient;
 
     private final String getEmployeeByIdApiPath = "/api/v1/employee/{id}";
 
+    private final RequestCoalescer<String, Optional<Employee>> requestCoalescer = new RequestCoalescer<>();
+
     @Override
-    public Optional<Employee> execute(String empId) {
+    public Mono<Optional<Employee>> executeAsync(String empId) {
+        return requestCoalescer.execute(empId, () -> fetchEmployeeById(empId));
+    }
 
-        Optional<Employee> employee = webClientBuilder.build().get()
+    private Mono<Optional<Employee>> fetchEmployeeById(String empId) {
+        return webClient.get()
                 .uri(uriBuilder -> uriBuilder.path(getEmployeeByIdApiPath).build(empId))
+                .attribute(MetricsExchangeFilter.CLIENT_ATTRIBUTE, "getEmployeeByIdClient")
                 .retrieve()
                 .onStatus(
                         httpStatus -> httpStatus.value() == 429,
@@ -37,8 +43,9 @@ public class GetEmployeeById implements RestApiServiceClient<Optional<Employee>,
                 )
                 .toEntity(String.class)
                 .map(apiResponse -> parse(apiResponse.getBody()))
-                .block();
-        return employee;
+                .name(MetricsExchangeFilter.CALLS_METRIC)
+                .tag("client", "getEmployeeByIdClient")
+                .metrics();
     }
 
     private Optional<Employee> parse(String apiResponse) {
@@ -0,0 +1,91 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Records every upstream exchange per client, as named by the CLIENT_ATTRIBUTE request attribute.
+ *
+ * employee.api.client.exchange   time until the response headers arrive (network and upstream)
+ * employee.api.client.body       time spent reading the body, including streaming decoding
+ * employee.api.client.responses  responses per status class (2xx, 4xx, 429, 5xx)
+ * employee.api.client.payload    response body size in bytes
+ *
+ * Each client also records employee.api.client.calls for the whole call including parsing, so the
+ * parse time is what remains after exchange and body.
+ */
+public class MetricsExchangeFilter implements ExchangeFilterFunction {
+
+    public static final String CLIENT_ATTRIBUTE = MetricsExchangeFilter.class.getName() + ".client";
+
+    public static final String CALLS_METRIC = "employee.api.client.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsExchangeFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String client = request.attribute(CLIENT_ATTRIBUTE).map(Object::toString).orElse("unknown");
+        return Mono.defer(() -> {
+            long exchangeStart = System.nanoTime();
+            return next.exchange(request)
+                    .doOnError(exception -> timer("employee.api.client.exchange", client, "IO_ERROR")
+                            .record(System.nanoTime() - exchangeStart, TimeUnit.NANOSECONDS))
+                    .map(response -> {
+                        String statusClass = statusClass(response.rawStatusCode());
+                        long bodyStart = System.nanoTime();
+                        timer("employee.api.client.exchange", client, statusClass)
+                                .record(bodyStart - exchangeStart, TimeUnit.NANOSECONDS);
+                        Counter.builder("employee.api.client.responses")
+                                .tag("client", client)
+                                .tag("status", statusClass)
+                                .register(meterRegistry)
+                                .increment();
+
+                        AtomicLong payloadBytes = new AtomicLong();
+                        return response.mutate()
+                                .body(body -> body
+                                        .doOnNext(dataBuffer -> payloadBytes.addAndGet(dataBuffer.readableByteCount()))
+                                        .doOnComplete(() -> {
+                                            timer("employee.api.client.body", client, statusClass)
+                                                    .record(System.nanoTime() - bodyStart, TimeUnit.NANOSECONDS);
+                                            DistributionSummary.builder("employee.api.client.payload")
+                                                    .baseUnit("bytes")
+                                                    .tag("client", client)
+                                                    .publishPercentileHistogram()
+                                                    .register(meterRegistry)
+                                                    .record(payloadBytes.get());
+                                        }))
+                                .build();
+                    });
+        });
+    }
+
+    private Timer timer(String name, String client, String statusClass) {
+        return Timer.builder(name)
+                .tag("client", client)
+                .tag("status", statusClass)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String statusClass(int statusCode) {
+        if (statusCode == 429) {
+            return "429";
+        }
+        return (statusCode / 100) + "xx";
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+/*
+ * Paces every upstream exchange through the shared UpstreamRateLimiter and retries 429 responses.
+ *
+ * The retry delay honors Retry-After (seconds or HTTP date) when the upstream sends one, otherwise it
+ * is an exponential backoff; both get random jitter so that waiting callers don't retry in lockstep,
+ * and neither exceeds maxBackoff. The retry waits out the whole delay before asking the limiter for a
+ * permit, so a Retry-After longer than the limiter's max wait delays the retry instead of getting it
+ * rejected. A Retry-After beyond maxBackoff is not waited for at all, and like a 429 after the last
+ * retry it is handed to the client, which maps it to a TooManyRequestException as before.
+ */
+public class RateLimitingExchangeFilter implements ExchangeFilterFunction {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final UpstreamRateLimiter rateLimiter;
+
+    private final int maxRetries;
+
+    private final Duration baseBackoff;
+
+    private final Duration maxBackoff;
+
+    public RateLimitingExchangeFilter(UpstreamRateLimiter rateLimiter, int maxRetries, Duration baseBackoff, Duration maxBackoff) {
+        this.rateLimiter = rateLimiter;
+        this.maxRetries = maxRetries;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return exchange(request, next, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+        return rateLimiter.acquire()
+                .then(Mono.defer(() -> next.exchange(request)))
+                .flatMap(response -> {
+                    if (response.rawStatusCode() != TOO_MANY_REQUESTS || attempt >= maxRetries) {
+                        return Mono.just(response);
+                    }
+                    Duration delay = retryDelay(attempt, response.headers().asHttpHeaders());
+                    if (delay == null) {
+                        log.warn("[RateLimiter]: Upstream returned 429 for {} with a Retry-After beyond {} ms, not retrying",
+                                request.url().getPath(), maxBackoff.toMillis());
+                        return Mono.just(response);
+                    }
+                    log.warn("[RateLimiter]: Upstream returned 429 for {}, retry {} of {} in {} ms",
+                            request.url().getPath(), attempt + 1, maxRetries, delay.toMillis());
+                    // Pausing the shared bucket holds back every other caller too, not only this retry
+                    rateLimiter.pause(delay);
+                    return response.releaseBody()
+                            .then(Mono.delay(delay))
+                            .then(exchange(request, next, attempt + 1));
+                });
+    }
+
+    /*
+     * Delay before the next attempt, or null when the upstream asks for a wait longer than maxBackoff.
+     */
+    Duration retryDelay(int attempt, HttpHeaders headers) {
+        long jitterMillis = ThreadLocalRandom.current().nextLong(baseBackoff.toMillis() + 1);
+        Duration retryAfter = retryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER));
+        if (retryAfter != null) {
+            if (retryAfter.compareTo(maxBackoff) > 0) {
+                return null;
+            }
+            Duration delay = retryAfter.plusMillis(jitterMillis);
+            return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+        }
+        long exponentialMillis = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(attempt, 20));
+        return Duration.ofMillis(exponentialMillis / 2 + ThreadLocalRandom.current().nextLong(exponentialMillis / 2 + 1));
+    }
+
+    private Duration retryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Duration untilDate = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException notDate) {
+                return null;
+            }
+        }
+    }
+}
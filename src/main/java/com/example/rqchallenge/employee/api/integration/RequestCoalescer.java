@@ -0,0 +1,39 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/*
+ * Single-flight for upstream reads: concurrent calls with the same key share one in-flight
+ * upstream request and all receive its result or its error.
+ *
+ * The shared request is subscribed on its own rather than through the first caller, so it runs to
+ * completion for the remaining callers when any of them, the first included, cancels.
+ */
+public class RequestCoalescer<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> upstreamCall) {
+        return Mono.defer(() -> {
+            CompletableFuture<V> call = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+            if (existing == null) {
+                Mono.defer(upstreamCall)
+                        .doFinally(signal -> inFlight.remove(key, call))
+                        .subscribe(call::complete, call::completeExceptionally, () -> call.complete(null));
+                existing = call;
+            }
+            // A copy, so that a cancelled caller cannot cancel the shared call
+            return Mono.fromFuture(existing.copy());
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
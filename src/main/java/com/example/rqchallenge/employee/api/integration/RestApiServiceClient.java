@@ -1,10 +1,23 @@
 package com.example.rqchallenge.employee.api.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface RestApiServiceClient<T, U> {
 
     ObjectMapper mapper = new ObjectMapper();
 
-    T execute(U request);
+    Mono<T> executeAsync(U request);
+
+    default T execute(U request) {
+        return executeAsync(request).block();
+    }
+
+    /*
+     * The response in parts, as they are decoded; clients that can't decode incrementally emit it whole.
+     */
+    default Flux<T> executeStream(U request) {
+        return executeAsync(request).flux();
+    }
 }
@@ -0,0 +1,77 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import com.example.rqchallenge.employee.exception.TooManyRequestException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/*
+ * Token bucket shared by every upstream call.
+ *
+ * Permits refill at the upstream quota rate and up to `burst` of them can be stored while idle.
+ * Callers reserve a permit and wait for it without holding a thread; a caller that would have to
+ * wait longer than maxWait is rejected with a TooManyRequestException instead of queueing.
+ * A 429 from the upstream pauses the bucket for every caller, for at most maxWait so that callers
+ * queued behind the pause are still served within their bound; a longer Retry-After is waited out
+ * by the request that got the 429.
+ */
+public class UpstreamRateLimiter {
+
+    private final double permitIntervalNanos;
+
+    private final double burst;
+
+    private final long maxWaitNanos;
+
+    private double storedPermits;
+
+    private long nextFreeNanos;
+
+    public UpstreamRateLimiter(double permitsPerSecond, int burst, Duration maxWait) {
+        this.permitIntervalNanos = 1_000_000_000d / permitsPerSecond;
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.storedPermits = burst;
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve(System.nanoTime());
+            if (waitNanos < 0) {
+                return Mono.error(new TooManyRequestException());
+            }
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /*
+     * Returns how long the caller has to wait for its permit, or -1 when that is longer than maxWait.
+     */
+    synchronized long reserve(long nowNanos) {
+        refill(nowNanos);
+        long waitNanos = Math.max(0, nextFreeNanos - nowNanos);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+
+        double fromStored = Math.min(1, storedPermits);
+        storedPermits -= fromStored;
+        nextFreeNanos += (long) ((1 - fromStored) * permitIntervalNanos);
+        return waitNanos;
+    }
+
+    public synchronized void pause(Duration duration) {
+        long nowNanos = System.nanoTime();
+        refill(nowNanos);
+        storedPermits = 0;
+        nextFreeNanos = Math.max(nextFreeNanos, nowNanos + Math.min(duration.toNanos(), maxWaitNanos));
+    }
+
+    private void refill(long nowNanos) {
+        if (nowNanos > nextFreeNanos) {
+            storedPermits = Math.min(burst, storedPermits + (nowNanos - nextFreeNanos) / permitIntervalNanos);
+            nextFreeNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.rqchallenge.employee.cache;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+/*
+ * Bounded per-id employee cache in front of the get employee by id API.
+ *
+ * Caffeine evicts by W-TinyLFU within a weight budget of estimated bytes, and entries expire after
+ * the ttl. A miss falls back to the employee snapshot when one is loaded, so any full list fetch
+ * also serves id lookups without a per-id call. Hit, miss and eviction stats are published as
+ * cache.* meters tagged cache=employeeById.
+ */
+public class EmployeeByIdCache {
+
+    // Object headers, boxed id, salary and age, and the two String headers
+    private static final int EMPLOYEE_OVERHEAD_BYTES = 96;
+
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${employee.cache.by-id.max-weight-bytes:16777216}")
+    private long maxWeightBytes;
+
+    @Value("${employee.cache.by-id.ttl-millis:60000}")
+    private long ttlMillis;
+
+    private Cache<Long, Employee> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, Employee employee) -> weigh(employee))
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employeeById");
+    }
+
+    public Optional<Employee> get(String empId) {
+        Long id = toId(empId);
+        if (id == null) {
+            return Optional.empty();
+        }
+        Employee cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Employee> fromSnapshot = employeeSnapshotCache.peek().flatMap(snapshot -> snapshot.findById(id));
+        fromSnapshot.ifPresent(employee -> cache.put(id, employee));
+        return fromSnapshot;
+    }
+
+    public void put(Employee employee) {
+        if (employee != null && employee.getId() != null) {
+            cache.put(employee.getId(), employee);
+        }
+    }
+
+    public void invalidate(Long id) {
+        if (id != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static int weigh(Employee employee) {
+        int chars = length(employee.getEmployeeName()) + length(employee.getProfileImage());
+        return EMPLOYEE_OVERHEAD_BYTES + 2 * chars;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /*
+     * Ids that are not plain numbers are left to the upstream to reject, null is returned for them.
+     */
+    public static Long toId(String empId) {
+        try {
+            return empId == null ? null : Long.valueOf(empId);
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.example.rqchallenge.employee.cache;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import com.example.rqchallenge.employee.index.EmployeeColumns;
+import com.example.rqchallenge.employee.index.EmployeeIdIndex;
+import com.example.rqchallenge.employee.index.EmployeeNameIndex;
+import com.example.rqchallenge.employee.index.EmployeeRangeIndex;
+import com.example.rqchallenge.employee.index.SalaryAggregate;
+import com.example.rqchallenge.employee.index.SalaryStats;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/*
+ * Point-in-time copy of the upstream employee list; the loaded list and its indexes are never modified.
+ * Creates and deletes made through this service are recorded on top of it, so the employee list, name
+ * search, paging and range queries return created employees and leave deleted ones out, as the salary
+ * views and id lookups do.
+ * The data version starts as a hash of the list's content and changes with every create and delete
+ * recorded on the snapshot, so equal versions mean equal data with high probability; it backs the read
+ * endpoints' ETags.
+ */
+public class EmployeeSnapshot {
+
+    /*
+     * Where the list came from: a fetch from the upstream, or the on-disk copy of an earlier one
+     */
+    public enum Source { UPSTREAM, DISK }
+
+    private static final long CREATED = 1;
+
+    private static final long DELETED = 2;
+
+    private final List<Employee> employees;
+
+    private final long loadedAtMillis;
+
+    private final Source source;
+
+    private final EmployeeColumns columns;
+
+    private final EmployeeNameIndex nameIndex;
+
+    private final SalaryAggregate salaryAggregate;
+
+    private final SalaryStats salaryStats;
+
+    private final EmployeeIdIndex idIndex;
+
+    private final EmployeeRangeIndex salaryIndex;
+
+    private final EmployeeRangeIndex ageIndex;
+
+    private final Set<Long> deletedIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong dataVersion;
+
+    private final List<Employee> created = new CopyOnWriteArrayList<>();
+
+    // The loaded list with the recorded creates and deletes applied, as of a data version
+    private volatile LiveEmployees live;
+
+    public EmployeeSnapshot(List<Employee> employees, long loadedAtMillis) {
+        this(employees, loadedAtMillis, Source.UPSTREAM);
+    }
+
+    public EmployeeSnapshot(List<Employee> employees, long loadedAtMillis, Source source) {
+        this.employees = Collections.unmodifiableList(employees);
+        this.loadedAtMillis = loadedAtMillis;
+        this.source = source;
+        this.dataVersion = new AtomicLong(contentHash(this.employees));
+        this.columns = new EmployeeColumns(this.employees);
+        this.live = new LiveEmployees(dataVersion.get(), this.employees);
+        this.nameIndex = new EmployeeNameIndex(columns);
+        this.idIndex = new EmployeeIdIndex(columns);
+        this.salaryAggregate = new SalaryAggregate(columns, idIndex);
+        this.salaryStats = new SalaryStats(columns);
+        this.salaryIndex = EmployeeRangeIndex.bySalary(columns);
+        this.ageIndex = EmployeeRangeIndex.byAge(columns);
+    }
+
+    public Optional<Employee> findById(Long id) {
+        if (id == null || deletedIds.contains(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(idIndex.find(id));
+    }
+
+    /*
+     * Up to limit employees in id order with ids greater than after (from the lowest id when after is null),
+     * skipping deleted ones and repeated ids. Created employees are merged in by id, as they appear in the list.
+     */
+    public EmployeePage page(Long after, int limit) {
+        List<Employee> createdAfter = createdInIdOrder(after);
+        List<Employee> page = new ArrayList<>(Math.min(limit, idIndex.size() + createdAfter.size()));
+        int rank = after == null ? 0 : idIndex.rankAfter(after);
+        int overlay = 0;
+        Long previousId = null;
+        boolean more = false;
+        while (true) {
+            while (rank < idIndex.size()
+                    && (deletedIds.contains(idIndex.idAtRank(rank)) || Objects.equals(idIndex.idAtRank(rank), previousId))) {
+                rank++;
+            }
+            while (overlay < createdAfter.size() && createdAfter.get(overlay).getId().equals(previousId)) {
+                overlay++;
+            }
+            boolean loadedLeft = rank < idIndex.size();
+            boolean createdLeft = overlay < createdAfter.size();
+            if (!loadedLeft && !createdLeft) {
+                break;
+            }
+            if (page.size() == limit) {
+                more = true;
+                break;
+            }
+            if (createdLeft && (!loadedLeft || createdAfter.get(overlay).getId() < idIndex.idAtRank(rank))) {
+                page.add(createdAfter.get(overlay++));
+            } else {
+                page.add(idIndex.atRank(rank++));
+            }
+            previousId = page.get(page.size() - 1).getId();
+        }
+        Long nextCursor = more && !page.isEmpty() ? previousId : null;
+        return new EmployeePage(page, nextCursor);
+    }
+
+    public EmployeeRangePage salaryRange(int min, int max, int offset, int limit) {
+        return range(salaryIndex, Employee::getEmployeeSalary, min, max, offset, limit);
+    }
+
+    public EmployeeRangePage ageRange(int min, int max, int offset, int limit) {
+        return range(ageIndex, Employee::getEmployeeAge, min, max, offset, limit);
+    }
+
+    /*
+     * The window [offset, offset + limit) of the current employees with a value in [min, max], lowest value
+     * first, created employees after loaded ones with the same value. Deleted employees are neither returned
+     * nor counted in total, so a window is only short at the end of the range; a create or delete between
+     * two requests shifts the windows after it.
+     */
+    private EmployeeRangePage range(EmployeeRangeIndex index, Function<Employee, Integer> valueOf,
+                                    int min, int max, int offset, int limit) {
+        int first = index.firstRankAtLeast(min);
+        int above = Math.max(first, index.firstRankAbove(max));
+        int[] deletedRanks = deletedRanks(index, first, above);
+        List<Employee> createdInRange = createdInValueOrder(valueOf, min, max);
+        int total = above - first - deletedRanks.length + createdInRange.size();
+        // Offsets past the end clamp to total
+        int start = Math.min(offset, total);
+
+        // Created employees that come before the window, each preceded by the loaded ones up to its value
+        int overlay = 0;
+        while (overlay < createdInRange.size()) {
+            int loadedUpToValue = index.firstRankAbove(valueOf.apply(createdInRange.get(overlay))) - first;
+            if (overlay + loadedUpToValue - countBelow(deletedRanks, first + loadedUpToValue) >= start) {
+                break;
+            }
+            overlay++;
+        }
+        // Rank of the first loaded employee in the window, stepping over deleted ranks
+        int rank = first + start - overlay;
+        int deleted = 0;
+        while (deleted < deletedRanks.length && deletedRanks[deleted] <= rank) {
+            rank++;
+            deleted++;
+        }
+
+        List<Employee> window = new ArrayList<>(Math.min(limit, total - start));
+        while (window.size() < limit) {
+            if (deleted < deletedRanks.length && deletedRanks[deleted] == rank) {
+                rank++;
+                deleted++;
+                continue;
+            }
+            boolean loadedLeft = rank < above;
+            boolean createdLeft = overlay < createdInRange.size();
+            if (!loadedLeft && !createdLeft) {
+                break;
+            }
+            if (createdLeft && (!loadedLeft || valueOf.apply(createdInRange.get(overlay)) < index.valueAtRank(rank))) {
+                window.add(createdInRange.get(overlay++));
+            } else {
+                window.add(index.atRank(rank++));
+            }
+        }
+        int end = start + window.size();
+        Integer nextOffset = end < total ? end : null;
+        return new EmployeeRangePage(window, total, nextOffset);
+    }
+
+    /*
+     * Employees whose name contains the search string ignoring case, in list order, created ones last.
+     */
+    public List<Employee> searchByName(String searchString) {
+        List<Employee> matches = nameIndex.search(searchString);
+        if (deletedIds.isEmpty() && created.isEmpty()) {
+            return matches;
+        }
+        List<Employee> liveMatches = new ArrayList<>(matches.size());
+        for (Employee employee : matches) {
+            if (!isDeleted(employee)) {
+                liveMatches.add(employee);
+            }
+        }
+        for (Employee employee : created) {
+            if (!isDeleted(employee) && StringUtils.containsIgnoreCase(employee.getEmployeeName(), searchString)) {
+                liveMatches.add(employee);
+            }
+        }
+        return liveMatches;
+    }
+
+    public SalaryStatistics salaryStatistics() {
+        List<Employee> highest = salaryAggregate.top(1);
+        Integer max = highest.isEmpty() ? null : highest.get(0).getEmployeeSalary();
+        return salaryStats.statistics(salaryAggregate.lowestSalary(), max);
+    }
+
+    public void markDeleted(Long id) {
+        if (deletedIds.add(id)) {
+            dataVersion.updateAndGet(version -> mix(mix(version, DELETED), id));
+        }
+    }
+
+    /*
+     * The employee is listed before the version moves, so a list built for the new version includes it.
+     */
+    public void recordCreated(Employee employee) {
+        created.add(employee);
+        dataVersion.updateAndGet(version -> mix(mix(version, CREATED), hashOf(employee)));
+    }
+
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    /*
+     * The current employees: the loaded list without deleted employees, followed by created ones. The
+     * same list instance is returned until the next create or delete.
+     */
+    public List<Employee> getEmployees() {
+        long version = dataVersion.get();
+        LiveEmployees current = live;
+        if (current.version == version) {
+            return current.employees;
+        }
+        List<Employee> employees = new ArrayList<>(this.employees.size() + created.size());
+        for (Employee employee : this.employees) {
+            if (!isDeleted(employee)) {
+                employees.add(employee);
+            }
+        }
+        for (Employee employee : created) {
+            if (!isDeleted(employee)) {
+                employees.add(employee);
+            }
+        }
+        current = new LiveEmployees(version, Collections.unmodifiableList(employees));
+        live = current;
+        return current.employees;
+    }
+
+    /*
+     * The list as loaded, without creates and deletes made since.
+     */
+    public List<Employee> getLoadedEmployees() {
+        return employees;
+    }
+
+    public EmployeeColumns getColumns() {
+        return columns;
+    }
+
+    public EmployeeNameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public SalaryAggregate getSalaryAggregate() {
+        return salaryAggregate;
+    }
+
+    public SalaryStats getSalaryStats() {
+        return salaryStats;
+    }
+
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public long ageMillis(long nowMillis) {
+        return nowMillis - loadedAtMillis;
+    }
+
+    /*
+     * Created employees that are not deleted, with an id greater than after, lowest id first.
+     */
+    private List<Employee> createdInIdOrder(Long after) {
+        if (created.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Employee> createdAfter = new ArrayList<>(created.size());
+        for (Employee employee : created) {
+            Long id = employee.getId();
+            if (id != null && !deletedIds.contains(id) && (after == null || id > after)) {
+                createdAfter.add(employee);
+            }
+        }
+        createdAfter.sort(Comparator.comparing(Employee::getId));
+        return createdAfter;
+    }
+
+    /*
+     * Ranks in [first, above) of the index held by deleted employees, ascending.
+     */
+    private int[] deletedRanks(EmployeeRangeIndex index, int first, int above) {
+        int[] ranks = new int[0];
+        int count = 0;
+        for (Long id : deletedIds) {
+            int idRank = idIndex.firstRankOf(id);
+            for (; idRank >= 0 && idRank < idIndex.size() && idIndex.idAtRank(idRank) == id; idRank++) {
+                int rank = index.rankOf(idIndex.positionAtRank(idRank));
+                if (rank >= first && rank < above) {
+                    if (count == ranks.length) {
+                        ranks = Arrays.copyOf(ranks, Math.max(4, count * 2));
+                    }
+                    ranks[count++] = rank;
+                }
+            }
+        }
+        ranks = Arrays.copyOf(ranks, count);
+        Arrays.sort(ranks);
+        return ranks;
+    }
+
+    private static int countBelow(int[] sortedRanks, int bound) {
+        int count = 0;
+        while (count < sortedRanks.length && sortedRanks[count] < bound) {
+            count++;
+        }
+        return count;
+    }
+
+    /*
+     * Created employees that are not deleted with a value in [min, max], lowest value first, ties in creation order.
+     */
+    private List<Employee> createdInValueOrder(Function<Employee, Integer> valueOf, int min, int max) {
+        if (created.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Employee> inRange = new ArrayList<>(created.size());
+        for (Employee employee : created) {
+            Integer value = valueOf.apply(employee);
+            if (value != null && value >= min && value <= max && !isDeleted(employee)) {
+                inRange.add(employee);
+            }
+        }
+        inRange.sort(Comparator.comparing(valueOf));
+        return inRange;
+    }
+
+    private boolean isDeleted(Employee employee) {
+        return employee.getId() != null && deletedIds.contains(employee.getId());
+    }
+
+    private static long contentHash(List<Employee> employees) {
+        long hash = employees.size();
+        for (Employee employee : employees) {
+            hash = mix(hash, hashOf(employee));
+        }
+        return hash;
+    }
+
+    private static long hashOf(Employee employee) {
+        long hash = Objects.hashCode(employee.getId());
+        hash = mix(hash, Objects.hashCode(employee.getEmployeeName()));
+        hash = mix(hash, Objects.hashCode(employee.getEmployeeSalary()));
+        hash = mix(hash, Objects.hashCode(employee.getEmployeeAge()));
+        return mix(hash, Objects.hashCode(employee.getProfileImage()));
+    }
+
+    private static long mix(long hash, long value) {
+        return Long.rotateLeft(hash ^ (value * 0x9E3779B97F4A7C15L), 27) * 0xC2B2AE3D27D4EB4FL;
+    }
+
+    private static final class LiveEmployees {
+
+        private final long version;
+
+        private final List<Employee> employees;
+
+        LiveEmployees(long version, List<Employee> employees) {
+            this.version = version;
+            this.employees = employees;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.example.rqchallenge.employee.cache;
+
+import com.example.rqchallenge.employee.api.integration.RequestCoalescer;
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.exception.ApiResponseJsonParseException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@Slf4j
+/*
+ * Holds the latest employee snapshot and refreshes it in the background.
+ *
+ * Within the ttl a snapshot is served as is. Between ttl and ttl + max-stale it is still served
+ * while a single background refresh replaces it (stale-while-revalidate). Only a missing or
+ * expired snapshot makes the caller wait for the upstream. New snapshots are swapped in
+ * atomically, so readers never block on a refresh.
+ *
+ * When employee.snapshot.file is set, every fetched list is also written there and the file is read
+ * back at startup, so a restarted service can answer before the upstream does. A snapshot restored
+ * from disk is served however old it is, with a background refresh, until a fetch replaces it. If a
+ * fetch fails while an expired snapshot is held, that snapshot is served rather than failing the read,
+ * and further reads, streamed ones included, keep getting it without waiting on the upstream for
+ * outage-retry-millis. Each served snapshot is recorded as the request's SnapshotFreshness.
+ */
+public class EmployeeSnapshotCache {
+
+    @Autowired
+    @Qualifier("getAllEmployeesClient")
+    private RestApiServiceClient<List<Employee>, Void> getAllEmployeesClient;
+
+    @Value("${employee.snapshot.ttl-millis:30000}")
+    private long ttlMillis;
+
+    @Value("${employee.snapshot.max-stale-millis:300000}")
+    private long maxStaleMillis;
+
+    @Value("${employee.snapshot.file:}")
+    private String snapshotFile;
+
+    @Value("${employee.snapshot.outage-retry-millis:5000}")
+    private long outageRetryMillis;
+
+    private volatile long lastFailedFetchMillis;
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+
+    private final Object loadLock = new Object();
+
+    private final RequestCoalescer<String, EmployeeSnapshot> asyncLoads = new RequestCoalescer<>();
+
+    private final AtomicReference<Flux<Employee>> inFlightStream = new AtomicReference<>();
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeSnapshot get() {
+        EmployeeSnapshot snapshot = current.get();
+        long now = System.currentTimeMillis();
+
+        if (!mayServe(snapshot, now)) {
+            snapshot = load();
+        } else if (snapshot.ageMillis(now) > ttlMillis) {
+            refreshInBackground();
+        }
+        SnapshotFreshness.recordForCurrentRequest(freshnessOf(snapshot));
+        return snapshot;
+    }
+
+    /*
+     * Non-blocking variant of get() for the reactive path; concurrent cold loads share one fetch.
+     */
+    public Mono<EmployeeSnapshot> getAsync() {
+        EmployeeSnapshot snapshot = current.get();
+        long now = System.currentTimeMillis();
+
+        Mono<EmployeeSnapshot> served;
+        if (!mayServe(snapshot, now)) {
+            served = asyncLoads.execute("snapshot", () -> getAllEmployeesClient.executeAsync(null)
+                    .switchIfEmpty(Mono.error(ApiResponseJsonParseException::new))
+                    // Index building is CPU bound, keep it off the event loop
+                    .publishOn(Schedulers.parallel())
+                    .map(employees -> new EmployeeSnapshot(employees, System.currentTimeMillis()))
+                    .doOnNext(fresh -> {
+                        onFetched(fresh);
+                        current.set(fresh);
+                    })
+                    .doOnError(exception -> lastFailedFetchMillis = System.currentTimeMillis()))
+                    .onErrorResume(exception -> {
+                        if (snapshot == null) {
+                            return Mono.error(exception);
+                        }
+                        log.warn("[EmployeeSnapshot]: Upstream unavailable, serving expired snapshot", exception);
+                        return Mono.just(snapshot);
+                    });
+        } else {
+            if (snapshot.ageMillis(now) > ttlMillis) {
+                refreshInBackground();
+            }
+            served = Mono.just(snapshot);
+        }
+        return served.flatMap(loaded -> Mono.deferContextual(context -> {
+            context.<AtomicReference<SnapshotFreshness>>getOrEmpty(SnapshotFreshness.CONTEXT_KEY)
+                    .ifPresent(holder -> holder.set(freshnessOf(loaded)));
+            return Mono.just(loaded);
+        }));
+    }
+
+    /*
+     * Employees of the current snapshot, or when none can be served, straight from the upstream as its
+     * body is decoded, so the first employees are available before the whole list is. An expired
+     * snapshot is streamed instead when the upstream fails before sending any employee. Concurrent
+     * readers share one upstream stream, which becomes the next snapshot once it completes.
+     */
+    public Flux<Employee> stream() {
+        return Flux.defer(() -> {
+            EmployeeSnapshot snapshot = current.get();
+            long now = System.currentTimeMillis();
+            if (mayServe(snapshot, now)) {
+                if (snapshot.ageMillis(now) > ttlMillis) {
+                    refreshInBackground();
+                }
+                return Flux.fromIterable(snapshot.getEmployees());
+            }
+            AtomicBoolean emitted = new AtomicBoolean();
+            return streamingLoad(snapshot)
+                    .doOnNext(employee -> emitted.set(true))
+                    .onErrorResume(exception -> {
+                        if (snapshot == null || emitted.get()) {
+                            return Flux.error(exception);
+                        }
+                        log.warn("[EmployeeSnapshot]: Upstream unavailable, streaming expired snapshot", exception);
+                        return Flux.fromIterable(snapshot.getEmployees());
+                    });
+        });
+    }
+
+    /*
+     * One upstream stream shared by the readers that arrive while it is in flight, late ones getting the
+     * employees already sent replayed. It runs to completion even if every reader cancels, and the
+     * streamed list then becomes the current snapshot unless a load replaced the expected one meanwhile.
+     */
+    private Flux<Employee> streamingLoad(EmployeeSnapshot expected) {
+        while (true) {
+            Flux<Employee> inFlight = inFlightStream.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+            List<Employee> streamed = new ArrayList<>();
+            Flux<Employee> load = getAllEmployeesClient.executeStream(null)
+                    .doOnNext(streamed::addAll)
+                    .concatMapIterable(employees -> employees)
+                    .doOnComplete(() -> Schedulers.parallel().schedule(() -> {
+                        // Index building is CPU bound, keep it off the event loop
+                        EmployeeSnapshot fresh = new EmployeeSnapshot(streamed, System.currentTimeMillis());
+                        onFetched(fresh);
+                        current.compareAndSet(expected, fresh);
+                        inFlightStream.set(null);
+                    }))
+                    .doOnError(exception -> {
+                        lastFailedFetchMillis = System.currentTimeMillis();
+                        inFlightStream.set(null);
+                    })
+                    .cache();
+            if (inFlightStream.compareAndSet(null, load)) {
+                load.subscribe(employee -> { }, exception -> { });
+                return load;
+            }
+        }
+    }
+
+    /*
+     * Applies a successful create to the current snapshot's salary aggregate and statistics, if one is loaded.
+     */
+    public void onEmployeeCreated(Employee employee) {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot != null && employee != null) {
+            snapshot.recordCreated(employee);
+            snapshot.getSalaryAggregate().add(employee);
+            snapshot.getSalaryStats().add(employee.getEmployeeSalary());
+        }
+    }
+
+    /*
+     * Applies a successful delete to the current snapshot's salary aggregate, statistics and id lookups, if one is loaded.
+     */
+    public void onEmployeeDeleted(Long id) {
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot != null && id != null) {
+            snapshot.markDeleted(id);
+            snapshot.getSalaryAggregate().remove(id)
+                    .forEach(employee -> snapshot.getSalaryStats().remove(employee.getEmployeeSalary()));
+        }
+    }
+
+    /*
+     * The current snapshot if it may still be served, without loading or refreshing one.
+     */
+    public Optional<EmployeeSnapshot> peek() {
+        EmployeeSnapshot snapshot = current.get();
+        return mayServe(snapshot, System.currentTimeMillis()) ? Optional.of(snapshot) : Optional.empty();
+    }
+
+    public void invalidate() {
+        current.set(null);
+        lastFailedFetchMillis = 0;
+    }
+
+    /*
+     * Serves the on-disk snapshot, if there is one, until a fetch replaces it.
+     */
+    @PostConstruct
+    public void restore() {
+        if (snapshotFile == null || snapshotFile.isEmpty() || !Files.exists(Paths.get(snapshotFile))) {
+            return;
+        }
+        try {
+            EmployeeSnapshot restored = EmployeeSnapshotFile.read(Paths.get(snapshotFile));
+            if (current.compareAndSet(null, restored)) {
+                log.info("[EmployeeSnapshot]: Restored {} Employees from {}, {} ms old", restored.getEmployees().size(),
+                        snapshotFile, restored.ageMillis(System.currentTimeMillis()));
+            }
+        } catch (IOException | RuntimeException exception) {
+            log.warn("[EmployeeSnapshot]: Could not restore snapshot from {}", snapshotFile, exception);
+        }
+    }
+
+    /*
+     * Keeps an in-use snapshot warm; nothing is fetched until the first read has loaded one.
+     */
+    @Scheduled(
+            initialDelayString = "${employee.snapshot.refresh-interval-millis:20000}",
+            fixedDelayString = "${employee.snapshot.refresh-interval-millis:20000}"
+    )
+    public void scheduledRefresh() {
+        if (current.get() != null) {
+            refreshInBackground();
+        }
+    }
+
+    private EmployeeSnapshot load() {
+        synchronized (loadLock) {
+            EmployeeSnapshot snapshot = current.get();
+            if (snapshot != null && snapshot.ageMillis(System.currentTimeMillis()) <= ttlMillis) {
+                return snapshot;
+            }
+            try {
+                EmployeeSnapshot fresh = fetch();
+                current.set(fresh);
+                return fresh;
+            } catch (RuntimeException exception) {
+                lastFailedFetchMillis = System.currentTimeMillis();
+                if (snapshot == null) {
+                    throw exception;
+                }
+                log.warn("[EmployeeSnapshot]: Upstream unavailable, serving expired snapshot", exception);
+                return snapshot;
+            }
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        final EmployeeSnapshot expected = current.get();
+        refreshExecutor.execute(() -> {
+            try {
+                EmployeeSnapshot fresh = fetch();
+                // An invalidate() or a synchronous load during the fetch wins over this result
+                if (current.compareAndSet(expected, fresh)) {
+                    log.info("[EmployeeSnapshot]: Refreshed snapshot with {} Employees", fresh.getEmployees().size());
+                }
+            } catch (RuntimeException exception) {
+                lastFailedFetchMillis = System.currentTimeMillis();
+                log.warn("[EmployeeSnapshot]: Background refresh failed, serving previous snapshot", exception);
+            } finally {
+                refreshInProgress.set(false);
+            }
+        });
+    }
+
+    private EmployeeSnapshot fetch() {
+        List<Employee> employees = getAllEmployeesClient.execute(null);
+        if (employees == null) {
+            throw new ApiResponseJsonParseException();
+        }
+        EmployeeSnapshot fresh = new EmployeeSnapshot(employees, System.currentTimeMillis());
+        onFetched(fresh);
+        return fresh;
+    }
+
+    private void onFetched(EmployeeSnapshot fresh) {
+        lastFailedFetchMillis = 0;
+        if (snapshotFile == null || snapshotFile.isEmpty()) {
+            return;
+        }
+        Path path = Paths.get(snapshotFile);
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    EmployeeSnapshotFile.write(path, fresh.getLoadedEmployees(), fresh.getLoadedAtMillis());
+                    log.debug("[EmployeeSnapshot]: Wrote {} Employees to {}", fresh.getEmployees().size(), path);
+                } catch (IOException | RuntimeException exception) {
+                    log.warn("[EmployeeSnapshot]: Could not write snapshot to {}", path, exception);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            log.debug("[EmployeeSnapshot]: Shutting down, not writing snapshot to {}", path);
+        }
+    }
+
+    /*
+     * Within ttl + max-stale, restored from disk and not yet replaced, or expired while the upstream is
+     * known to be failing.
+     */
+    private boolean mayServe(EmployeeSnapshot snapshot, long now) {
+        return snapshot != null
+                && (snapshot.getSource() == EmployeeSnapshot.Source.DISK
+                || snapshot.ageMillis(now) <= ttlMillis + maxStaleMillis
+                || inOutage(now));
+    }
+
+    private boolean inOutage(long now) {
+        return now - lastFailedFetchMillis < outageRetryMillis;
+    }
+
+    private SnapshotFreshness freshnessOf(EmployeeSnapshot snapshot) {
+        long ageMillis = snapshot.ageMillis(System.currentTimeMillis());
+        return new SnapshotFreshness(snapshot.getSource(), ageMillis, ageMillis > ttlMillis, snapshot.getDataVersion());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
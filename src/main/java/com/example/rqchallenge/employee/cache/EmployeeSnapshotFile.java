@@ -0,0 +1,64 @@
+package com.example.rqchallenge.employee.cache;
+
+import com.example.rqchallenge.employee.codec.EmployeeBinaryCodec;
+import com.example.rqchallenge.employee.dto.Employee;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/*
+ * On-disk copy of the last good employee list.
+ *
+ * Layout: magic, version and loadedAtMillis, then the list in EmployeeBinaryCodec's encoding. Files
+ * are written to a temporary sibling and moved into place, so a reader never sees a partial file.
+ * Reading maps the file and decodes the records straight from the mapping.
+ */
+public final class EmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x454D5053;
+
+    private static final short VERSION = 2;
+
+    private EmployeeSnapshotFile() {
+    }
+
+    public static void write(Path path, List<Employee> employees, long loadedAtMillis) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+                output.writeInt(MAGIC);
+                output.writeShort(VERSION);
+                output.writeLong(loadedAtMillis);
+                EmployeeBinaryCodec.encode(employees, output);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public static EmployeeSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IOException("Not an employee snapshot file: " + path);
+            }
+            long loadedAtMillis = buffer.getLong();
+            List<Employee> employees = EmployeeBinaryCodec.decode(buffer);
+            return new EmployeeSnapshot(employees, loadedAtMillis, EmployeeSnapshot.Source.DISK);
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Truncated or corrupt employee snapshot file: " + path, exception);
+        }
+    }
+}
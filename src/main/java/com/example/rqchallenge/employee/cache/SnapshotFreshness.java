@@ -0,0 +1,90 @@
+package com.example.rqchallenge.employee.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * How fresh the snapshot that answered a request was, written to the response as headers, and its
+ * data version as a strong ETag.
+ *
+ * On the blocking path the snapshot cache records it as an attribute of the current servlet request;
+ * on the reactive path it is set on a holder the web filter puts in the Reactor context under CONTEXT_KEY.
+ */
+public class SnapshotFreshness {
+
+    public static final String AGE_HEADER = "X-Data-Age-Millis";
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+
+    public static final String SOURCE_HEADER = "X-Data-Source";
+
+    public static final String CONTEXT_KEY = SnapshotFreshness.class.getName();
+
+    private final EmployeeSnapshot.Source source;
+
+    private final long ageMillis;
+
+    private final boolean stale;
+
+    private final long dataVersion;
+
+    public SnapshotFreshness(EmployeeSnapshot.Source source, long ageMillis, boolean stale, long dataVersion) {
+        this.source = source;
+        this.ageMillis = ageMillis;
+        this.stale = stale;
+        this.dataVersion = dataVersion;
+    }
+
+    public void writeTo(HttpHeaders headers) {
+        headers.set(AGE_HEADER, Long.toString(ageMillis));
+        headers.set(STALE_HEADER, Boolean.toString(stale));
+        headers.set(SOURCE_HEADER, source.name().toLowerCase());
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public EmployeeSnapshot.Source getSource() {
+        return source;
+    }
+
+    public String getETag() {
+        return "\"" + Long.toHexString(dataVersion) + "\"";
+    }
+
+    /*
+     * ETag of one variant of the data, such as a content coding, which needs its own strong validator.
+     */
+    public String getETag(String variant) {
+        return "\"" + Long.toHexString(dataVersion) + "-" + variant + "\"";
+    }
+
+    /*
+     * Freshness recorded for the servlet request being handled by this thread, or null.
+     */
+    public static SnapshotFreshness ofCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null ? null
+                : (SnapshotFreshness) attributes.getAttribute(CONTEXT_KEY, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /*
+     * Freshness recorded for the reactive request this Mono is subscribed for; empty when there is none.
+     */
+    public static Mono<SnapshotFreshness> ofCurrentContext() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.<AtomicReference<SnapshotFreshness>>getOrEmpty(CONTEXT_KEY)
+                .map(AtomicReference::get)));
+    }
+
+    static void recordForCurrentRequest(SnapshotFreshness freshness) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(CONTEXT_KEY, freshness, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
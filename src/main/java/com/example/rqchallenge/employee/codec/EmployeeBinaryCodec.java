@@ -0,0 +1,238 @@
+package com.example.rqchallenge.employee.codec;
+
+import com.example.rqchallenge.employee.dto.Employee;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Compact binary encoding of employee lists for caching and snapshot files.
+ *
+ * A list is a varint count followed by one record per employee: a presence byte, then the present
+ * fields in a fixed order. The id, salary and age are zigzag varints, so typical values take two or
+ * three bytes, and the name and profile image are a varint length followed by UTF-8. Fields are
+ * read and written through the getters and setters directly, with no reflection or per-field metadata.
+ */
+public final class EmployeeBinaryCodec {
+
+    private static final int HAS_ID = 1;
+
+    private static final int HAS_NAME = 1 << 1;
+
+    private static final int HAS_SALARY = 1 << 2;
+
+    private static final int HAS_AGE = 1 << 3;
+
+    private static final int HAS_PROFILE_IMAGE = 1 << 4;
+
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+
+    private EmployeeBinaryCodec() {
+    }
+
+    public static byte[] encode(List<Employee> employees) {
+        Sink sink = new Sink(Math.max(16, employees.size() * 32));
+        sink.writeVarLong(employees.size());
+        for (Employee employee : employees) {
+            sink.writeEmployee(employee);
+        }
+        return sink.toByteArray();
+    }
+
+    /*
+     * Streams the encoding in chunks, so the whole list is never held as one byte array.
+     */
+    public static void encode(List<Employee> employees, OutputStream output) throws IOException {
+        Sink sink = new Sink(FLUSH_THRESHOLD * 2);
+        sink.writeVarLong(employees.size());
+        for (Employee employee : employees) {
+            sink.writeEmployee(employee);
+            if (sink.size >= FLUSH_THRESHOLD) {
+                sink.drainTo(output);
+            }
+        }
+        sink.drainTo(output);
+    }
+
+    public static List<Employee> decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /*
+     * Decodes from the buffer's position, leaving it after the last record.
+     */
+    public static List<Employee> decode(ByteBuffer buffer) {
+        try {
+            Source source = new Source(buffer);
+            int count = Math.toIntExact(source.readVarLong());
+            // Every record takes at least its presence byte, so a larger count can only be corrupt
+            if (count < 0 || count > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            List<Employee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                employees.add(source.readEmployee());
+            }
+            return employees;
+        } catch (BufferUnderflowException | ArithmeticException exception) {
+            throw new IllegalArgumentException("Malformed employee encoding", exception);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Sink {
+
+        private byte[] bytes;
+
+        private int size;
+
+        Sink(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void writeEmployee(Employee employee) {
+            int present = (employee.getId() != null ? HAS_ID : 0)
+                    | (employee.getEmployeeName() != null ? HAS_NAME : 0)
+                    | (employee.getEmployeeSalary() != null ? HAS_SALARY : 0)
+                    | (employee.getEmployeeAge() != null ? HAS_AGE : 0)
+                    | (employee.getProfileImage() != null ? HAS_PROFILE_IMAGE : 0);
+            ensure(1);
+            bytes[size++] = (byte) present;
+            if (employee.getId() != null) {
+                writeVarLong(zigzag(employee.getId()));
+            }
+            if (employee.getEmployeeSalary() != null) {
+                writeVarLong(zigzag(employee.getEmployeeSalary()));
+            }
+            if (employee.getEmployeeAge() != null) {
+                writeVarLong(zigzag(employee.getEmployeeAge()));
+            }
+            if (employee.getEmployeeName() != null) {
+                writeString(employee.getEmployeeName());
+            }
+            if (employee.getProfileImage() != null) {
+                writeString(employee.getProfileImage());
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            // ASCII is copied char by char; anything else goes through the JDK encoder
+            int length = value.length();
+            boolean ascii = true;
+            for (int i = 0; i < length && ascii; i++) {
+                ascii = value.charAt(i) < 0x80;
+            }
+            if (ascii) {
+                writeVarLong(length);
+                ensure(length);
+                for (int i = 0; i < length; i++) {
+                    bytes[size++] = (byte) value.charAt(i);
+                }
+            } else {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(encoded.length);
+                ensure(encoded.length);
+                System.arraycopy(encoded, 0, bytes, size, encoded.length);
+                size += encoded.length;
+            }
+        }
+
+        void drainTo(OutputStream output) throws IOException {
+            output.write(bytes, 0, size);
+            size = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Source {
+
+        private final ByteBuffer buffer;
+
+        private byte[] scratch = new byte[256];
+
+        Source(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        Employee readEmployee() {
+            Employee employee = new Employee();
+            int present = buffer.get();
+            if ((present & HAS_ID) != 0) {
+                employee.setId(unzigzag(readVarLong()));
+            }
+            if ((present & HAS_SALARY) != 0) {
+                employee.setEmployeeSalary((int) unzigzag(readVarLong()));
+            }
+            if ((present & HAS_AGE) != 0) {
+                employee.setEmployeeAge((int) unzigzag(readVarLong()));
+            }
+            if ((present & HAS_NAME) != 0) {
+                employee.setEmployeeName(readString());
+            }
+            if ((present & HAS_PROFILE_IMAGE) != 0) {
+                employee.setProfileImage(readString());
+            }
+            return employee;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte next = buffer.get();
+                value |= (long) (next & 0x7F) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw new ArithmeticException("Varint longer than 10 bytes");
+        }
+
+        String readString() {
+            int length = Math.toIntExact(readVarLong());
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (buffer.hasArray()) {
+                String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            if (length > scratch.length) {
+                scratch = new byte[length];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.rqchallenge.employee.config;
 
+import com.example.rqchallenge.employee.api.integration.MetricsExchangeFilter;
+import com.example.rqchallenge.employee.api.integration.RateLimitingExchangeFilter;
+import com.example.rqchallenge.employee.api.integration.UpstreamRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -8,26 +12,114 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
+@EnableScheduling
 public class BeanConfiguration {
 
     @Value("${dummy.rest.api.endpoint}")
     private String dummyRestApiEndpoint;
 
+    @Value("${employee.api.pool.name:employee-api}")
+    private String poolName;
+
+    @Value("${employee.api.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${employee.api.pool.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${employee.api.pool.pending-acquire-timeout-millis:5000}")
+    private long pendingAcquireTimeoutMillis;
+
+    @Value("${employee.api.pool.max-idle-time-millis:30000}")
+    private long maxIdleTimeMillis;
+
+    @Value("${employee.api.pool.max-life-time-millis:300000}")
+    private long maxLifeTimeMillis;
+
+    @Value("${employee.api.pool.evict-in-background-millis:30000}")
+    private long evictInBackgroundMillis;
+
+    @Value("${employee.api.rate-limit.permits-per-second:5}")
+    private double permitsPerSecond;
+
+    @Value("${employee.api.rate-limit.burst:5}")
+    private int burst;
+
+    @Value("${employee.api.rate-limit.max-wait-millis:10000}")
+    private long maxWaitMillis;
+
+    @Value("${employee.api.retry.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${employee.api.retry.base-backoff-millis:500}")
+    private long baseBackoffMillis;
+
+    @Value("${employee.api.retry.max-backoff-millis:30000}")
+    private long maxBackoffMillis;
+
+    /*
+     * Named, bounded pool for upstream connections; its metrics are registered under reactor.netty.connection.provider
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeApiConnectionProvider() {
+        return ConnectionProvider.builder(poolName)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(evictInBackgroundMillis))
+                .metrics(true)
+                .build();
+    }
+
+    /*
+     * Sized to the upstream quota; shared by all integration clients
+     */
+    @Bean
+    public UpstreamRateLimiter upstreamRateLimiter() {
+        return new UpstreamRateLimiter(permitsPerSecond, burst, Duration.ofMillis(maxWaitMillis));
+    }
+
+    /*
+     * Connector over the named pool, shared by the integration clients and the connection pool warm-up
+     */
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        HttpClient httpClient = HttpClient.create()
+    public ClientHttpConnector employeeApiConnector(ConnectionProvider employeeApiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(employeeApiConnectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10)
                 .doOnConnected(c -> c.addHandlerLast(new ReadTimeoutHandler(15))
                         .addHandlerLast(new WriteTimeoutHandler(20)));
         // creating a client http connector to be used above http client
-        ClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+        return new ReactorClientHttpConnector(httpClient);
+    }
 
+    @Bean
+    public WebClient.Builder webClientBuilder(ClientHttpConnector employeeApiConnector,
+                                              UpstreamRateLimiter upstreamRateLimiter,
+                                              MeterRegistry meterRegistry) {
         return WebClient.builder()
                 .baseUrl(dummyRestApiEndpoint)
-                .clientConnector(connector);
+                .clientConnector(employeeApiConnector)
+                .filter(new RateLimitingExchangeFilter(upstreamRateLimiter, maxRetries,
+                        Duration.ofMillis(baseBackoffMillis), Duration.ofMillis(maxBackoffMillis)))
+                // Inside the rate limiter, so every retried attempt is measured and counted on its own
+                .filter(new MetricsExchangeFilter(meterRegistry));
+    }
+
+    /*
+     * One WebClient shared by all integration clients instead of building one per call
+     */
+    @Bean
+    public WebClient employeeApiWebClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder.build();
     }
 }
@@ -0,0 +1,58 @@
+package com.example.rqchallenge.employee.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@Slf4j
+/*
+ * Opens upstream connections once the application is ready, so the first requests don't pay for TLS handshakes.
+ *
+ * Each connection costs one HEAD request to the upstream, so this is off unless warmup-connections is set.
+ * The requests go straight over the shared pool, bypassing the rate limiter so they take no permits from callers.
+ */
+public class ConnectionPoolWarmer {
+
+    private static final String WARMUP_PATH = "/api/v1/employees";
+
+    @Autowired
+    private ClientHttpConnector employeeApiConnector;
+
+    @Value("${dummy.rest.api.endpoint}")
+    private String dummyRestApiEndpoint;
+
+    @Value("${employee.api.pool.warmup-connections:0}")
+    private int warmupConnections;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmupConnections <= 0) {
+            return;
+        }
+        WebClient warmupClient = WebClient.builder()
+                .baseUrl(dummyRestApiEndpoint)
+                .clientConnector(employeeApiConnector)
+                .build();
+        Flux.range(0, warmupConnections)
+                // Any response, whatever its status, means the connection was opened
+                .flatMap(attempt -> warmupClient.head()
+                        .uri(WARMUP_PATH)
+                        .exchangeToMono(clientResponse -> clientResponse.releaseBody().thenReturn(true))
+                        .onErrorResume(exception -> {
+                            log.debug("[ConnectionPoolWarmer]: Warm-up request failed", exception);
+                            return Mono.just(false);
+                        }))
+                .filter(Boolean::booleanValue)
+                .count()
+                .subscribe(opened -> log.info("[ConnectionPoolWarmer]: Warmed up {} of {} upstream connections",
+                        opened, warmupConnections));
+    }
+}
@@ -1,8 +1,17 @@
 package com.example.rqchallenge.employee.controller;
 
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
 import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Map;
@@ -11,7 +20,13 @@ import java.util.Map;
 public interface IEmployeeController {
 
     @GetMapping()
-    ResponseEntity<List<Employee>> getAllEmployees();
+    ResponseEntity<byte[]> getAllEmployees(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding);
+
+    @GetMapping(params = "limit")
+    ResponseEntity<EmployeePage> getEmployeesPage(@RequestParam int limit, @RequestParam(required = false) Long after);
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<Employee> streamAllEmployees();
 
     @GetMapping("/search/{searchString}")
     ResponseEntity<List<Employee>> getEmployeesByNameSearch(@PathVariable String searchString);
@@ -19,15 +34,44 @@ public interface IEmployeeController {
     @GetMapping("/{id}")
     ResponseEntity<Employee> getEmployeeById(@PathVariable String id);
 
+    @GetMapping("/ids")
+    ResponseEntity<MultiGetResult> getEmployeesByIds(@RequestParam List<String> ids);
+
+    @GetMapping("/salaryRange")
+    ResponseEntity<EmployeeRangePage> getEmployeesBySalaryRange(@RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit);
+
+    @GetMapping("/ageRange")
+    ResponseEntity<EmployeeRangePage> getEmployeesByAgeRange(@RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit);
+
     @GetMapping("/highestSalary")
     ResponseEntity<Integer> getHighestSalaryOfEmployees();
 
+    @GetMapping("/salaryStats")
+    ResponseEntity<SalaryStatistics> getSalaryStatistics();
+
+    @GetMapping("/top")
+    ResponseEntity<List<Map<String, Object>>> getTopEarningEmployees(@RequestParam(defaultValue = "10") int k,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) List<String> fields);
+
     @GetMapping("/topTenHighestEarningEmployeeNames")
     ResponseEntity<List<String>> getTop10HighestEarningEmployeeNames();
 
     @PostMapping()
     ResponseEntity<Employee> createEmployee(@RequestBody Map<String, Object> employeeInput);
 
+    @PostMapping("/batch")
+    ResponseEntity<List<BatchCreateResult>> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs);
+
     @DeleteMapping("/{id}")
     ResponseEntity<String> deleteEmployeeById(@PathVariable String id);
+
+    @PostMapping("/batch/delete")
+    ResponseEntity<List<BatchDeleteResult>> deleteEmployeesByIds(@RequestBody List<String> ids);
 }
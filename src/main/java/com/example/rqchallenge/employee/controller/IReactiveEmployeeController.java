@@ -0,0 +1,77 @@
+package com.example.rqchallenge.employee.controller;
+
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+public interface IReactiveEmployeeController {
+
+    @GetMapping()
+    Mono<ResponseEntity<List<Employee>>> getAllEmployees();
+
+    @GetMapping(params = "limit")
+    Mono<ResponseEntity<EmployeePage>> getEmployeesPage(@RequestParam int limit, @RequestParam(required = false) Long after);
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    Flux<Employee> streamAllEmployees();
+
+    @GetMapping("/search/{searchString}")
+    Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString);
+
+    @GetMapping("/{id}")
+    Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id);
+
+    @GetMapping("/ids")
+    Mono<ResponseEntity<MultiGetResult>> getEmployeesByIds(@RequestParam List<String> ids);
+
+    @GetMapping("/salaryRange")
+    Mono<ResponseEntity<EmployeeRangePage>> getEmployeesBySalaryRange(@RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit);
+
+    @GetMapping("/ageRange")
+    Mono<ResponseEntity<EmployeeRangePage>> getEmployeesByAgeRange(@RequestParam(required = false) Integer min,
+            @RequestParam(required = false) Integer max,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit);
+
+    @GetMapping("/highestSalary")
+    Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees();
+
+    @GetMapping("/salaryStats")
+    Mono<ResponseEntity<SalaryStatistics>> getSalaryStatistics();
+
+    @GetMapping("/top")
+    Mono<ResponseEntity<List<Map<String, Object>>>> getTopEarningEmployees(@RequestParam(defaultValue = "10") int k,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) List<String> fields);
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    Mono<ResponseEntity<List<String>>> getTop10HighestEarningEmployeeNames();
+
+    @PostMapping()
+    Mono<ResponseEntity<Employee>> createEmployee(@RequestBody Map<String, Object> employeeInput);
+
+    @PostMapping("/batch")
+    Mono<ResponseEntity<List<BatchCreateResult>>> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs);
+
+    @DeleteMapping("/{id}")
+    Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id);
+
+    @PostMapping("/batch/delete")
+    Mono<ResponseEntity<List<BatchDeleteResult>>> deleteEmployeesByIds(@RequestBody List<String> ids);
+}
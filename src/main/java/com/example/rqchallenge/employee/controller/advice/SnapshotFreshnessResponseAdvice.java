@@ -0,0 +1,35 @@
+package com.example.rqchallenge.employee.controller.advice;
+
+import com.example.rqchallenge.employee.cache.SnapshotFreshness;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "blocking", matchIfMissing = true)
+/*
+ * Adds the freshness headers to responses answered from the employee snapshot on the blocking path
+ */
+public class SnapshotFreshnessResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SnapshotFreshness freshness = SnapshotFreshness.ofCurrentRequest();
+        if (freshness != null) {
+            freshness.writeTo(response.getHeaders());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.rqchallenge.employee.controller.advice;
+
+import com.example.rqchallenge.employee.cache.SnapshotFreshness;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "reactive")
+/*
+ * Adds the freshness headers to responses answered from the employee snapshot on the reactive path
+ */
+public class SnapshotFreshnessWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AtomicReference<SnapshotFreshness> served = new AtomicReference<>();
+        exchange.getResponse().beforeCommit(() -> {
+            SnapshotFreshness freshness = served.get();
+            if (freshness != null) {
+                freshness.writeTo(exchange.getResponse().getHeaders());
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange).contextWrite(Context.of(SnapshotFreshness.CONTEXT_KEY, served));
+    }
+}
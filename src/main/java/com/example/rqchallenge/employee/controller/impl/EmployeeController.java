@@ -1,20 +1,40 @@
 package com.example.rqchallenge.employee.controller.impl;
 
 import com.example.rqchallenge.employee.controller.IEmployeeController;
+import com.example.rqchallenge.employee.util.SnapshotETags;
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
 import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import com.example.rqchallenge.employee.exception.InternalServerError;
 import com.example.rqchallenge.employee.service.IEmployeeService;
+import com.example.rqchallenge.employee.util.ContentEncoding;
+import com.example.rqchallenge.employee.util.EncodedBody;
+import com.example.rqchallenge.employee.util.HotPathLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @RestController
 @RequestMapping("employee")
 @Slf4j
+@Timed(value = "employee.api.endpoint", histogram = true)
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "blocking", matchIfMissing = true)
 /*
  * Controller for Employee Management APIs 
  */
@@ -23,60 +43,162 @@ public class EmployeeController implements IEmployeeController {
     @Autowired
     private IEmployeeService employeeService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HotPathLog hotPathLog;
+
+    private final AtomicReference<EncodedBody> allEmployeesBody = new AtomicReference<>();
+
+    /*
+     * The list is serialized once per snapshot and each compressed variant built once, so repeated
+     * requests are written straight from those buffers
+     */
     @Override
-    public ResponseEntity<List<Employee>> getAllEmployees() {
-        log.info("[GetAllEmployees ]: Entering Controller");
+    public ResponseEntity<byte[]> getAllEmployees(String acceptEncoding) {
+        log.debug("[GetAllEmployees ]: Entering Controller");
         final List<Employee> allEmployees = employeeService.getAllEmployees();
-        log.info("[GetAllEmployees ]: Exiting Controller");
-        return ResponseEntity.ok(allEmployees);
+        final ContentEncoding encoding = ContentEncoding.negotiate(acceptEncoding);
+        final byte[] body = encodedBodyOf(allEmployees).bytes(encoding);
+        log.debug("[GetAllEmployees ]: Exiting Controller with {} bytes {}", body.length, encoding.getToken());
+        return SnapshotETags.okEncoded(body, encoding);
+    }
+
+    @Override
+    public ResponseEntity<EmployeePage> getEmployeesPage(int limit, Long after) {
+        log.debug("[GetEmployeesPage]: Entering Controller with limit {} after {}", limit, after);
+        final EmployeePage page = employeeService.getEmployeesPage(after, limit);
+        log.debug("[GetEmployeesPage]: Exiting Controller");
+        return ResponseEntity.ok(page);
+    }
+
+    /*
+     * Written as NDJSON one employee at a time by Spring MVC's reactive return value support
+     */
+    @Override
+    public Flux<Employee> streamAllEmployees() {
+        log.debug("[StreamAllEmployees]: Entering Controller");
+        return employeeService.streamAllEmployees();
     }
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
-        log.info("[GetEmployeesByNameSearch]: Entering Controller with searchString {} ", searchString);
+        log.debug("[GetEmployeesByNameSearch]: Entering Controller with searchString {} ", searchString);
         List<Employee> filteredEmployees = employeeService.getEmployeesByNameSearch(searchString);
-        log.info("[GetEmployeesByNameSearch]: Exiting Controller with filteredEmployees {}", filteredEmployees);
+        log.debug("[GetEmployeesByNameSearch]: Exiting Controller with filteredEmployees {}", hotPathLog.summary(filteredEmployees));
         return ResponseEntity.ok(filteredEmployees);
     }
 
     @Override
     public ResponseEntity<Employee> getEmployeeById(String id) {
-        log.info("[GetEmployeeById]: Entering Controller");
-        log.info("[GetEmployeeById]: Employee Id {}", id);
+        log.debug("[GetEmployeeById]: Entering Controller");
+        log.debug("[GetEmployeeById]: Employee Id {}", id);
         Employee employee = employeeService.getEmployeeById(id);
-        log.info("[GetEmployeeById]: Exiting Controller");
+        log.debug("[GetEmployeeById]: Exiting Controller");
         return ResponseEntity.ok(employee);
     }
 
+    @Override
+    public ResponseEntity<MultiGetResult> getEmployeesByIds(List<String> ids) {
+        log.debug("[GetEmployeesByIds]: Entering Controller with {} ids", ids.size());
+        final MultiGetResult result = employeeService.getEmployeesByIds(ids);
+        log.debug("[GetEmployeesByIds]: Exiting Controller");
+        return ResponseEntity.ok(result);
+    }
+
+    @Override
+    public ResponseEntity<EmployeeRangePage> getEmployeesBySalaryRange(Integer min, Integer max, int offset, int limit) {
+        log.debug("[GetEmployeesBySalaryRange]: Entering Controller with min {} max {} offset {} limit {}", min, max, offset, limit);
+        final EmployeeRangePage page = employeeService.getEmployeesBySalaryRange(min, max, offset, limit);
+        log.debug("[GetEmployeesBySalaryRange]: Exiting Controller with {} of {} Employees", page.getEmployees().size(), page.getTotal());
+        return ResponseEntity.ok(page);
+    }
+
+    @Override
+    public ResponseEntity<EmployeeRangePage> getEmployeesByAgeRange(Integer min, Integer max, int offset, int limit) {
+        log.debug("[GetEmployeesByAgeRange]: Entering Controller with min {} max {} offset {} limit {}", min, max, offset, limit);
+        final EmployeeRangePage page = employeeService.getEmployeesByAgeRange(min, max, offset, limit);
+        log.debug("[GetEmployeesByAgeRange]: Exiting Controller with {} of {} Employees", page.getEmployees().size(), page.getTotal());
+        return ResponseEntity.ok(page);
+    }
+
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
-        log.info("[GetHighestSalaryOfEmployees]: Entering Controller");
+        log.debug("[GetHighestSalaryOfEmployees]: Entering Controller");
         final Integer highestSalaryOfEmployees = employeeService.getHighestSalaryOfEmployees();
-        log.info("[GetHighestSalaryOfEmployees]: Exiting Controller");
-        return ResponseEntity.ok(highestSalaryOfEmployees);
+        log.debug("[GetHighestSalaryOfEmployees]: Exiting Controller");
+        return SnapshotETags.ok(highestSalaryOfEmployees);
+    }
+
+    @Override
+    public ResponseEntity<SalaryStatistics> getSalaryStatistics() {
+        log.debug("[GetSalaryStatistics]: Entering Controller");
+        final SalaryStatistics salaryStatistics = employeeService.getSalaryStatistics();
+        log.debug("[GetSalaryStatistics]: Exiting Controller");
+        return ResponseEntity.ok(salaryStatistics);
     }
 
     @Override
     public ResponseEntity<List<String>> getTop10HighestEarningEmployeeNames() {
-        log.info("[GetTopTenHighestEarningEmployeeNames]: Entering Controller");
+        log.debug("[GetTopTenHighestEarningEmployeeNames]: Entering Controller");
         final List<String> topTenHighestEarningEmployeeNames = employeeService.getTop10HighestEarningEmployeeNames();
-        log.info("[GetTopTenHighestEarningEmployeeNames]: Exiting Controller");
-        return ResponseEntity.ok(topTenHighestEarningEmployeeNames);
+        log.debug("[GetTopTenHighestEarningEmployeeNames]: Exiting Controller");
+        return SnapshotETags.ok(topTenHighestEarningEmployeeNames);
+    }
+
+    @Override
+    public ResponseEntity<List<Map<String, Object>>> getTopEarningEmployees(int k, String order, List<String> fields) {
+        log.debug("[GetTopEarningEmployees]: Entering Controller with k {} order {} fields {}", k, order, fields);
+        final List<Map<String, Object>> topEarningEmployees = employeeService.getTopEarningEmployees(k, order, fields);
+        log.debug("[GetTopEarningEmployees]: Exiting Controller");
+        return ResponseEntity.ok(topEarningEmployees);
     }
 
     @Override
     public ResponseEntity<Employee> createEmployee(Map<String, Object> employeeInput) {
-        log.info("[CreateEmployee]: Entering Controller");
+        log.debug("[CreateEmployee]: Entering Controller");
         final Employee employee = employeeService.createEmployee(employeeInput);
-        log.info("[CreateEmployee]: Exiting Controller");
+        log.debug("[CreateEmployee]: Exiting Controller");
         return ResponseEntity.ok(employee);
     }
 
+    @Override
+    public ResponseEntity<List<BatchCreateResult>> createEmployees(List<Map<String, Object>> employeeInputs) {
+        log.debug("[CreateEmployees]: Entering Controller");
+        final List<BatchCreateResult> results = employeeService.createEmployees(employeeInputs);
+        log.debug("[CreateEmployees]: Exiting Controller");
+        return ResponseEntity.ok(results);
+    }
+
     @Override
     public ResponseEntity<String> deleteEmployeeById(String id) {
-        log.info("[DeleteEmployeeById]: Entering Controller");
+        log.debug("[DeleteEmployeeById]: Entering Controller");
         final String status = employeeService.deleteEmployee(id);
-        log.info("[DeleteEmployeeById]: Exiting Controller");
+        log.debug("[DeleteEmployeeById]: Exiting Controller");
         return ResponseEntity.ok(status);
     }
+
+    @Override
+    public ResponseEntity<List<BatchDeleteResult>> deleteEmployeesByIds(List<String> ids) {
+        log.debug("[DeleteEmployeesByIds]: Entering Controller");
+        final List<BatchDeleteResult> results = employeeService.deleteEmployees(ids);
+        log.debug("[DeleteEmployeesByIds]: Exiting Controller");
+        return ResponseEntity.ok(results);
+    }
+
+    private EncodedBody encodedBodyOf(List<Employee> employees) {
+        EncodedBody body = allEmployeesBody.get();
+        if (body != null && body.isOf(employees)) {
+            return body;
+        }
+        try {
+            body = new EncodedBody(employees, objectMapper.writeValueAsBytes(employees));
+        } catch (JsonProcessingException jsonProcessingException) {
+            log.error("[GetAllEmployees ]: Could not serialize Employees", jsonProcessingException);
+            throw new InternalServerError(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+        allEmployeesBody.set(body);
+        return body;
+    }
 }
@@ -0,0 +1,120 @@
+package com.example.rqchallenge.employee.controller.impl;
+
+import com.example.rqchallenge.employee.controller.IReactiveEmployeeController;
+import com.example.rqchallenge.employee.util.SnapshotETags;
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import com.example.rqchallenge.employee.service.IReactiveEmployeeService;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("employee")
+@Slf4j
+@Timed(value = "employee.api.endpoint", histogram = true)
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "reactive")
+/*
+ * Non-blocking Employee Management APIs, served on WebFlux/Netty when employee.api.mode=reactive
+ */
+public class ReactiveEmployeeController implements IReactiveEmployeeController {
+
+    @Autowired
+    private IReactiveEmployeeService employeeService;
+
+    @Override
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService.getAllEmployees().collectList().flatMap(SnapshotETags::okAsync);
+    }
+
+    @Override
+    public Mono<ResponseEntity<EmployeePage>> getEmployeesPage(int limit, Long after) {
+        return employeeService.getEmployeesPage(after, limit).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Flux<Employee> streamAllEmployees() {
+        return employeeService.streamAllEmployees();
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(String searchString) {
+        log.debug("[GetEmployeesByNameSearch]: searchString {}", searchString);
+        return employeeService.getEmployeesByNameSearch(searchString).collectList().map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Employee>> getEmployeeById(String id) {
+        log.debug("[GetEmployeeById]: Employee Id {}", id);
+        return employeeService.getEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<MultiGetResult>> getEmployeesByIds(List<String> ids) {
+        return employeeService.getEmployeesByIds(ids).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<EmployeeRangePage>> getEmployeesBySalaryRange(Integer min, Integer max, int offset, int limit) {
+        return employeeService.getEmployeesBySalaryRange(min, max, offset, limit).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<EmployeeRangePage>> getEmployeesByAgeRange(Integer min, Integer max, int offset, int limit) {
+        return employeeService.getEmployeesByAgeRange(min, max, offset, limit).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees().flatMap(SnapshotETags::okAsync);
+    }
+
+    @Override
+    public Mono<ResponseEntity<SalaryStatistics>> getSalaryStatistics() {
+        return employeeService.getSalaryStatistics().map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<String>>> getTop10HighestEarningEmployeeNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames().collectList().flatMap(SnapshotETags::okAsync);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<Map<String, Object>>>> getTopEarningEmployees(int k, String order, List<String> fields) {
+        return employeeService.getTopEarningEmployees(k, order, fields).collectList().map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Employee>> createEmployee(Map<String, Object> employeeInput) {
+        return employeeService.createEmployee(employeeInput).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<BatchCreateResult>>> createEmployees(List<Map<String, Object>> employeeInputs) {
+        return employeeService.createEmployees(employeeInputs).collectList().map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> deleteEmployeeById(String id) {
+        return employeeService.deleteEmployee(id).map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<BatchDeleteResult>>> deleteEmployeesByIds(List<String> ids) {
+        return employeeService.deleteEmployees(ids).collectList().map(ResponseEntity::ok);
+    }
+}
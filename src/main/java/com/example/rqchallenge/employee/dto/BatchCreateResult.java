@@ -0,0 +1,43 @@
+package com.example.rqchallenge.employee.dto;
+
+import com.example.rqchallenge.employee.exception.BaseException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+/*
+ * Outcome of one record of a batch create, in request order
+ */
+@Getter
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchCreateResult {
+
+    private final int index;
+
+    private final int status;
+
+    private final Employee employee;
+
+    private final String message;
+
+    private BatchCreateResult(int index, int status, Employee employee, String message) {
+        this.index = index;
+        this.status = status;
+        this.employee = employee;
+        this.message = message;
+    }
+
+    public static BatchCreateResult created(int index, Employee employee) {
+        return new BatchCreateResult(index, HttpStatus.CREATED.value(), employee, null);
+    }
+
+    public static BatchCreateResult failed(int index, Throwable exception) {
+        if (exception instanceof BaseException) {
+            BaseException baseException = (BaseException) exception;
+            return new BatchCreateResult(index, baseException.getStatus(), null, baseException.getMessage());
+        }
+        return new BatchCreateResult(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, exception.getMessage());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.rqchallenge.employee.dto;
+
+import com.example.rqchallenge.employee.exception.BaseException;
+import com.example.rqchallenge.employee.util.AppConstants;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+/*
+ * Outcome of one id of a batch delete, in request order after de-duplication
+ */
+@Getter
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchDeleteResult {
+
+    private final String id;
+
+    private final int status;
+
+    private final String employeeName;
+
+    private final String message;
+
+    private BatchDeleteResult(String id, int status, String employeeName, String message) {
+        this.id = id;
+        this.status = status;
+        this.employeeName = employeeName;
+        this.message = message;
+    }
+
+    public static BatchDeleteResult deleted(String id, String employeeName) {
+        return new BatchDeleteResult(id, HttpStatus.OK.value(), employeeName, null);
+    }
+
+    public static BatchDeleteResult notFound(String id) {
+        return new BatchDeleteResult(id, HttpStatus.NOT_FOUND.value(), null,
+                AppConstants.EMPLOYEE_NOT_FOUND_WITH_ID_MESSAGE + id);
+    }
+
+    public static BatchDeleteResult failed(String id, String employeeName, Throwable exception) {
+        if (exception instanceof BaseException) {
+            BaseException baseException = (BaseException) exception;
+            return new BatchDeleteResult(id, baseException.getStatus(), employeeName, baseException.getMessage());
+        }
+        return new BatchDeleteResult(id, HttpStatus.INTERNAL_SERVER_ERROR.value(), employeeName, exception.getMessage());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.rqchallenge.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/*
+ * One page of employees in id order; pass nextCursor as after to get the next page, it is absent on the last one
+ */
+@Getter
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeePage {
+
+    private final List<Employee> employees;
+
+    private final Long nextCursor;
+
+    public EmployeePage(List<Employee> employees, Long nextCursor) {
+        this.employees = employees;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.rqchallenge.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/*
+ * One window of a range query; total counts every current employee in the range, created ones included and
+ * deleted ones left out. Pass nextOffset as offset to get the next window, it is absent on the last one
+ */
+@Getter
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeRangePage {
+
+    private final List<Employee> employees;
+
+    private final int total;
+
+    private final Integer nextOffset;
+
+    public EmployeeRangePage(List<Employee> employees, int total, Integer nextOffset) {
+        this.employees = employees;
+        this.total = total;
+        this.nextOffset = nextOffset;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.rqchallenge.employee.dto;
+
+import com.example.rqchallenge.employee.exception.BaseException;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+/*
+ * A requested id of a multi-get whose lookup failed, so it is neither found nor known to be missing
+ */
+@Getter
+@ToString
+public class MultiGetFailure {
+
+    private final String id;
+
+    private final int status;
+
+    private final String message;
+
+    private MultiGetFailure(String id, int status, String message) {
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static MultiGetFailure failed(String id, Throwable exception) {
+        if (exception instanceof BaseException) {
+            BaseException baseException = (BaseException) exception;
+            return new MultiGetFailure(id, baseException.getStatus(), baseException.getMessage());
+        }
+        return new MultiGetFailure(id, HttpStatus.INTERNAL_SERVER_ERROR.value(), exception.getMessage());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.rqchallenge.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/*
+ * Employees found for a multi-get in request order, the requested ids that don't exist, and the ids
+ * whose lookup failed
+ */
+@Getter
+@ToString
+public class MultiGetResult {
+
+    private final List<Employee> found;
+
+    private final List<String> missing;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<MultiGetFailure> failed;
+
+    public MultiGetResult(List<Employee> found, List<String> missing, List<MultiGetFailure> failed) {
+        this.found = found;
+        this.missing = missing;
+        this.failed = failed;
+    }
+}
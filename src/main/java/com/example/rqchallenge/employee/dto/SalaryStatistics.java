@@ -0,0 +1,63 @@
+package com.example.rqchallenge.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/*
+ * Salary distribution of the current employees; percentiles are estimates within 1% of a salary of that rank,
+ * the other values are exact. Histogram buckets hold salaries in [lowerBound, upperBound), an absent bound is open.
+ */
+@Getter
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SalaryStatistics {
+
+    private final long count;
+
+    private final Double mean;
+
+    private final Integer min;
+
+    private final Integer max;
+
+    private final Integer median;
+
+    private final Integer p90;
+
+    private final Integer p99;
+
+    private final List<Bucket> histogram;
+
+    public SalaryStatistics(long count, Double mean, Integer min, Integer max, Integer median, Integer p90, Integer p99,
+                            List<Bucket> histogram) {
+        this.count = count;
+        this.mean = mean;
+        this.min = min;
+        this.max = max;
+        this.median = median;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.histogram = histogram;
+    }
+
+    @Getter
+    @ToString
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Bucket {
+
+        private final Integer lowerBound;
+
+        private final Integer upperBound;
+
+        private final long count;
+
+        public Bucket(Integer lowerBound, Integer upperBound, long count) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.count = count;
+        }
+    }
+}
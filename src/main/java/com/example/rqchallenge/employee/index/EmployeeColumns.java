@@ -0,0 +1,133 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Immutable column-per-field copy of an employee list, position for position.
+ *
+ * Ids, salaries and ages are primitive arrays with a bitmap of the positions that have a value, and
+ * names are dictionary encoded: each position holds the code of its name in a table of distinct
+ * names. Scans and aggregates run over these arrays; the Employee objects are only touched to build
+ * results.
+ */
+public class EmployeeColumns {
+
+    public static final int NO_NAME = -1;
+
+    private final List<Employee> employees;
+
+    private final long[] ids;
+
+    private final int[] salaries;
+
+    private final int[] ages;
+
+    private final BitSet hasId;
+
+    private final BitSet hasSalary;
+
+    private final BitSet hasAge;
+
+    private final int[] nameCodes;
+
+    private final String[] names;
+
+    public EmployeeColumns(List<Employee> employees) {
+        int size = employees.size();
+        this.employees = employees;
+        this.ids = new long[size];
+        this.salaries = new int[size];
+        this.ages = new int[size];
+        this.hasId = new BitSet(size);
+        this.hasSalary = new BitSet(size);
+        this.hasAge = new BitSet(size);
+        this.nameCodes = new int[size];
+
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        for (int position = 0; position < size; position++) {
+            Employee employee = employees.get(position);
+            if (employee.getId() != null) {
+                ids[position] = employee.getId();
+                hasId.set(position);
+            }
+            if (employee.getEmployeeSalary() != null) {
+                salaries[position] = employee.getEmployeeSalary();
+                hasSalary.set(position);
+            }
+            if (employee.getEmployeeAge() != null) {
+                ages[position] = employee.getEmployeeAge();
+                hasAge.set(position);
+            }
+            String name = employee.getEmployeeName();
+            if (name == null) {
+                nameCodes[position] = NO_NAME;
+            } else {
+                Integer code = codes.putIfAbsent(name, dictionary.size());
+                if (code == null) {
+                    code = dictionary.size();
+                    dictionary.add(name);
+                }
+                nameCodes[position] = code;
+            }
+        }
+        this.names = dictionary.toArray(new String[0]);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public Employee employee(int position) {
+        return employees.get(position);
+    }
+
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public boolean hasId(int position) {
+        return hasId.get(position);
+    }
+
+    public long id(int position) {
+        return ids[position];
+    }
+
+    public boolean hasSalary(int position) {
+        return hasSalary.get(position);
+    }
+
+    public int salary(int position) {
+        return salaries[position];
+    }
+
+    public boolean hasAge(int position) {
+        return hasAge.get(position);
+    }
+
+    public int age(int position) {
+        return ages[position];
+    }
+
+    /*
+     * Dictionary code of the name at this position, or NO_NAME.
+     */
+    public int nameCode(int position) {
+        return nameCodes[position];
+    }
+
+    public String name(int code) {
+        return names[code];
+    }
+
+    public int distinctNames() {
+        return names.length;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/*
+ * Lookup of an employee list by id with a binary search over the sorted ids.
+ *
+ * The upstream returns employees in id order, in which case the list positions are used as they
+ * are; otherwise the positions are sorted by id once. With duplicate ids the first one in list
+ * order wins. Employees without an id are not indexed.
+ */
+public class EmployeeIdIndex {
+
+    private final EmployeeColumns columns;
+
+    private final long[] ids;
+
+    private final int[] positions;
+
+    public EmployeeIdIndex(List<Employee> employees) {
+        this(new EmployeeColumns(employees));
+    }
+
+    public EmployeeIdIndex(EmployeeColumns columns) {
+        this.columns = columns;
+
+        int[] indexed = IntStream.range(0, columns.size())
+                .filter(columns::hasId)
+                .toArray();
+        boolean sorted = true;
+        for (int i = 1; i < indexed.length && sorted; i++) {
+            sorted = idAt(indexed[i - 1]) <= idAt(indexed[i]);
+        }
+        if (!sorted) {
+            indexed = Arrays.stream(indexed).boxed()
+                    .sorted(Comparator.comparingLong(this::idAt))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        this.positions = indexed;
+        this.ids = new long[indexed.length];
+        for (int i = 0; i < indexed.length; i++) {
+            ids[i] = idAt(indexed[i]);
+        }
+    }
+
+    /*
+     * Returns the list position of the employee with this id, or -1.
+     */
+    public int positionOf(long id) {
+        int rank = firstRankOf(id);
+        return rank < 0 ? -1 : positions[rank];
+    }
+
+    /*
+     * Rank in id order of the first employee with this id, or -1; any duplicates follow it.
+     */
+    public int firstRankOf(long id) {
+        int found = Arrays.binarySearch(ids, id);
+        if (found < 0) {
+            return -1;
+        }
+        while (found > 0 && ids[found - 1] == id) {
+            found--;
+        }
+        return found;
+    }
+
+    public Employee find(long id) {
+        int position = positionOf(id);
+        return position < 0 ? null : columns.employee(position);
+    }
+
+    /*
+     * Rank in id order of the first employee with an id greater than the given one; size() if there is none.
+     */
+    public int rankAfter(long id) {
+        int found = Arrays.binarySearch(ids, id);
+        if (found < 0) {
+            return -found - 1;
+        }
+        while (found < ids.length && ids[found] == id) {
+            found++;
+        }
+        return found;
+    }
+
+    public long idAtRank(int rank) {
+        return ids[rank];
+    }
+
+    public int positionAtRank(int rank) {
+        return positions[rank];
+    }
+
+    public Employee atRank(int rank) {
+        return columns.employee(positions[rank]);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private long idAt(int position) {
+        return columns.id(position);
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * Case-folded trigram index over employee names.
+ *
+ * Names are folded char by char the same way StringUtils.containsIgnoreCase compares them, so a
+ * substring query returns exactly the employees containsIgnoreCase would, in list order. The index
+ * is built over the distinct names of the name dictionary, so a name shared by many employees is
+ * folded, indexed and verified once. Queries of three or more chars intersect the posting lists of
+ * their trigrams and only verify the surviving names; shorter queries scan the folded dictionary.
+ */
+public class EmployeeNameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final EmployeeColumns columns;
+
+    private final String[] foldedNames;
+
+    private final TrigramTable trigrams = new TrigramTable();
+
+    private final int[][] postings;
+
+    // Positions of each name code, ascending: codePositions[codeStart[code] .. codeStart[code + 1])
+    private final int[] codeStart;
+
+    private final int[] codePositions;
+
+    public EmployeeNameIndex(List<Employee> employees) {
+        this(new EmployeeColumns(employees));
+    }
+
+    public EmployeeNameIndex(EmployeeColumns columns) {
+        this.columns = columns;
+        this.foldedNames = new String[columns.distinctNames()];
+
+        List<PositionList> building = new ArrayList<>();
+        for (int code = 0; code < foldedNames.length; code++) {
+            String folded = fold(columns.name(code));
+            foldedNames[code] = folded;
+            for (int start = 0; start + GRAM_LENGTH <= folded.length(); start++) {
+                int trigramId = trigrams.idOf(trigram(folded, start), building.size());
+                if (trigramId == building.size()) {
+                    building.add(new PositionList());
+                }
+                building.get(trigramId).add(code);
+            }
+        }
+
+        this.postings = new int[building.size()][];
+        for (int trigramId = 0; trigramId < postings.length; trigramId++) {
+            postings[trigramId] = building.get(trigramId).toArray();
+        }
+
+        this.codeStart = new int[foldedNames.length + 1];
+        for (int position = 0; position < columns.size(); position++) {
+            if (columns.nameCode(position) != EmployeeColumns.NO_NAME) {
+                codeStart[columns.nameCode(position) + 1]++;
+            }
+        }
+        for (int code = 0; code < foldedNames.length; code++) {
+            codeStart[code + 1] += codeStart[code];
+        }
+        this.codePositions = new int[codeStart[foldedNames.length]];
+        int[] next = Arrays.copyOf(codeStart, foldedNames.length);
+        for (int position = 0; position < columns.size(); position++) {
+            int code = columns.nameCode(position);
+            if (code != EmployeeColumns.NO_NAME) {
+                codePositions[next[code]++] = position;
+            }
+        }
+    }
+
+    public List<Employee> search(String searchString) {
+        if (searchString == null) {
+            return Collections.emptyList();
+        }
+        String query = fold(searchString);
+        if (query.length() < GRAM_LENGTH) {
+            return scan(query);
+        }
+
+        List<int[]> queryPostings = new ArrayList<>(query.length() - GRAM_LENGTH + 1);
+        for (int start = 0; start + GRAM_LENGTH <= query.length(); start++) {
+            int trigramId = trigrams.find(trigram(query, start));
+            if (trigramId < 0) {
+                return Collections.emptyList();
+            }
+            queryPostings.add(postings[trigramId]);
+        }
+        queryPostings.sort(Comparator.comparingInt(codes -> codes.length));
+
+        int[] candidates = queryPostings.get(0);
+        int candidateCount = candidates.length;
+        for (int list = 1; list < queryPostings.size() && candidateCount > 0; list++) {
+            candidates = intersect(candidates, candidateCount, queryPostings.get(list));
+            candidateCount = candidates.length;
+        }
+
+        int[] matchingCodes = new int[candidateCount];
+        int matchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            if (foldedNames[candidates[i]].contains(query)) {
+                matchingCodes[matchCount++] = candidates[i];
+            }
+        }
+        return employeesOf(matchingCodes, matchCount);
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    private List<Employee> scan(String query) {
+        int[] matchingCodes = new int[foldedNames.length];
+        int matchCount = 0;
+        for (int code = 0; code < foldedNames.length; code++) {
+            if (foldedNames[code].contains(query)) {
+                matchingCodes[matchCount++] = code;
+            }
+        }
+        return employeesOf(matchingCodes, matchCount);
+    }
+
+    /*
+     * Employees carrying any of the matching names, back in list order.
+     */
+    private List<Employee> employeesOf(int[] matchingCodes, int matchCount) {
+        int total = 0;
+        for (int i = 0; i < matchCount; i++) {
+            total += codeStart[matchingCodes[i] + 1] - codeStart[matchingCodes[i]];
+        }
+        int[] positions = new int[total];
+        int filled = 0;
+        for (int i = 0; i < matchCount; i++) {
+            int code = matchingCodes[i];
+            int count = codeStart[code + 1] - codeStart[code];
+            System.arraycopy(codePositions, codeStart[code], positions, filled, count);
+            filled += count;
+        }
+        if (matchCount > 1) {
+            Arrays.sort(positions);
+        }
+
+        List<Employee> matches = new ArrayList<>(total);
+        for (int position : positions) {
+            matches.add(columns.employee(position));
+        }
+        return matches;
+    }
+
+    /*
+     * Both inputs are ascending; each candidate is looked up with a binary search that only moves forward.
+     */
+    private static int[] intersect(int[] candidates, int candidateCount, int[] positions) {
+        int[] result = new int[candidateCount];
+        int resultCount = 0;
+        int from = 0;
+        for (int i = 0; i < candidateCount && from < positions.length; i++) {
+            int found = Arrays.binarySearch(positions, from, positions.length, candidates[i]);
+            if (found >= 0) {
+                result[resultCount++] = candidates[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return resultCount == result.length ? result : Arrays.copyOf(result, resultCount);
+    }
+
+    private static long trigram(String folded, int start) {
+        return ((long) folded.charAt(start) << 32)
+                | ((long) folded.charAt(start + 1) << 16)
+                | folded.charAt(start + 2);
+    }
+
+    /*
+     * Two chars are equal under containsIgnoreCase exactly when their folded forms are equal.
+     */
+    static String fold(String value) {
+        char[] chars = new char[value.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return new String(chars);
+    }
+
+    /*
+     * Open-addressing map from packed trigram to a dense id, avoiding a boxed key per trigram.
+     */
+    private static final class TrigramTable {
+
+        private long[] keys = new long[1 << 12];
+
+        private int[] ids = new int[1 << 12];
+
+        private int size;
+
+        TrigramTable() {
+            Arrays.fill(ids, -1);
+        }
+
+        int idOf(long key, int nextId) {
+            int slot = slot(key, keys.length);
+            while (ids[slot] >= 0) {
+                if (keys[slot] == key) {
+                    return ids[slot];
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            keys[slot] = key;
+            ids[slot] = nextId;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+            return nextId;
+        }
+
+        int find(long key) {
+            int slot = slot(key, keys.length);
+            while (ids[slot] >= 0) {
+                if (keys[slot] == key) {
+                    return ids[slot];
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            return -1;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldIds = ids;
+            keys = new long[oldKeys.length * 2];
+            ids = new int[oldIds.length * 2];
+            Arrays.fill(ids, -1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldIds[i] >= 0) {
+                    int slot = slot(oldKeys[i], keys.length);
+                    while (ids[slot] >= 0) {
+                        slot = (slot + 1) & (keys.length - 1);
+                    }
+                    keys[slot] = oldKeys[i];
+                    ids[slot] = oldIds[i];
+                }
+            }
+        }
+
+        private static int slot(long key, int capacity) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed >>> 32) & (capacity - 1);
+        }
+    }
+
+    private static final class PositionList {
+
+        private int[] positions = new int[4];
+
+        private int size;
+
+        void add(int position) {
+            // A name repeating a trigram only needs one posting
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/*
+ * Positions of an employee list sorted by one int column (salary or age), ascending with ties in
+ * list order. A value range maps to a contiguous run of ranks found with two binary searches, so a
+ * range query costs O(log n) plus the employees it returns. Employees without a value are not indexed.
+ */
+public class EmployeeRangeIndex {
+
+    private final EmployeeColumns columns;
+
+    private final int[] values;
+
+    private final int[] positions;
+
+    private final IntPredicate hasValue;
+
+    private final IntUnaryOperator valueAt;
+
+    private EmployeeRangeIndex(EmployeeColumns columns, IntPredicate hasValue, IntUnaryOperator valueAt) {
+        this.columns = columns;
+        this.hasValue = hasValue;
+        this.valueAt = valueAt;
+
+        long[] keys = new long[columns.size()];
+        int count = 0;
+        for (int position = 0; position < columns.size(); position++) {
+            if (hasValue.test(position)) {
+                // The value in the high bits orders by value; the position in the low bits keeps ties in list order
+                keys[count++] = ((long) valueAt.applyAsInt(position) << 32) | position;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        this.values = new int[count];
+        this.positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = (int) (keys[i] >> 32);
+            positions[i] = (int) keys[i];
+        }
+    }
+
+    public static EmployeeRangeIndex bySalary(EmployeeColumns columns) {
+        return new EmployeeRangeIndex(columns, columns::hasSalary, columns::salary);
+    }
+
+    public static EmployeeRangeIndex byAge(EmployeeColumns columns) {
+        return new EmployeeRangeIndex(columns, columns::hasAge, columns::age);
+    }
+
+    /*
+     * Rank of the first employee whose value is at least min; size() if there is none.
+     */
+    public int firstRankAtLeast(int min) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < min) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Rank of the first employee whose value is greater than max; size() if there is none.
+     */
+    public int firstRankAbove(int max) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] <= max) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Rank of the employee at a list position, or -1 when it has no value; a binary search on (value, position).
+     */
+    public int rankOf(int position) {
+        if (!hasValue.test(position)) {
+            return -1;
+        }
+        long key = ((long) valueAt.applyAsInt(position) << 32) | position;
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if ((((long) values[middle] << 32) | positions[middle]) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < values.length && positions[low] == position ? low : -1;
+    }
+
+    public int valueAtRank(int rank) {
+        return values[rank];
+    }
+
+    public int positionAtRank(int rank) {
+        return positions[rank];
+    }
+
+    public Employee atRank(int rank) {
+        return columns.employee(positions[rank]);
+    }
+
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * Salary ordering of an employee list, built once per list and updated in place on create/delete.
+ *
+ * The loaded employees are kept as positions sorted by salary (highest first, ties in list order),
+ * read from the salary column.
+ * Deleted employees are found through the id index and tombstoned, and created ones go into a small
+ * sorted overlay, so the highest salary is O(1) and the top or bottom K is an O(K) merge of the two,
+ * skipping tombstones. Equal salaries come in list order either way, loaded employees before created ones.
+ */
+public class SalaryAggregate {
+
+    private final EmployeeColumns columns;
+
+    private final EmployeeIdIndex idIndex;
+
+    private final int[] order;
+
+    private final BitSet removed = new BitSet();
+
+    private final List<Employee> added = new ArrayList<>();
+
+    private int firstLive;
+
+    public SalaryAggregate(List<Employee> employees) {
+        this(new EmployeeColumns(employees));
+    }
+
+    public SalaryAggregate(EmployeeColumns columns) {
+        this(columns, new EmployeeIdIndex(columns));
+    }
+
+    public SalaryAggregate(EmployeeColumns columns, EmployeeIdIndex idIndex) {
+        this.columns = columns;
+        this.idIndex = idIndex;
+
+        long[] keys = new long[columns.size()];
+        int count = 0;
+        for (int position = 0; position < columns.size(); position++) {
+            if (columns.hasSalary(position)) {
+                // ~salary sorts the highest salary first; the position in the low bits keeps ties in list order
+                keys[count++] = ((long) ~columns.salary(position) << 32) | position;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        this.order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = (int) keys[i];
+        }
+    }
+
+    public synchronized Integer highestSalary() {
+        List<Employee> top = top(1);
+        return top.isEmpty() ? Integer.MIN_VALUE : top.get(0).getEmployeeSalary();
+    }
+
+    /*
+     * Lowest live salary, or null when there is none.
+     */
+    public synchronized Integer lowestSalary() {
+        int base = order.length - 1;
+        while (base >= 0 && removed.get(order[base])) {
+            base--;
+        }
+        Integer lowest = base >= 0 ? columns.salary(order[base]) : null;
+        if (!added.isEmpty()) {
+            int lowestAdded = added.get(added.size() - 1).getEmployeeSalary();
+            lowest = lowest == null ? lowestAdded : Math.min(lowest, lowestAdded);
+        }
+        return lowest;
+    }
+
+    public synchronized List<Employee> top(int k) {
+        List<Employee> top = new ArrayList<>(Math.min(k, order.length + added.size()));
+        int base = firstLive;
+        int overlay = 0;
+        while (top.size() < k) {
+            while (base < order.length && removed.get(order[base])) {
+                base++;
+            }
+            boolean baseLeft = base < order.length;
+            Employee fromOverlay = overlay < added.size() ? added.get(overlay) : null;
+            if (!baseLeft && fromOverlay == null) {
+                break;
+            }
+            if (fromOverlay == null
+                    || (baseLeft && columns.salary(order[base]) >= fromOverlay.getEmployeeSalary())) {
+                top.add(columns.employee(order[base]));
+                base++;
+            } else {
+                top.add(fromOverlay);
+                overlay++;
+            }
+        }
+        return top;
+    }
+
+    /*
+     * Walks both orders from the lowest salary; each run of equal salaries is emitted front to back so ties stay in list order.
+     * The start of a run is binary searched, so a long run of ties costs O(log n) plus the K employees taken from it.
+     */
+    public synchronized List<Employee> bottom(int k) {
+        List<Employee> bottom = new ArrayList<>(Math.min(k, order.length + added.size()));
+        int base = order.length - 1;
+        int overlay = added.size() - 1;
+        while (bottom.size() < k) {
+            while (base >= 0 && removed.get(order[base])) {
+                base--;
+            }
+            boolean baseLeft = base >= 0;
+            if (!baseLeft && overlay < 0) {
+                break;
+            }
+            if (overlay < 0 || (baseLeft && columns.salary(order[base]) <= added.get(overlay).getEmployeeSalary())) {
+                int runStart = baseRunStart(base);
+                for (int i = runStart; i <= base && bottom.size() < k; i++) {
+                    if (!removed.get(order[i])) {
+                        bottom.add(columns.employee(order[i]));
+                    }
+                }
+                base = runStart - 1;
+            } else {
+                int runStart = overlayRunStart(overlay);
+                for (int i = runStart; i <= overlay && bottom.size() < k; i++) {
+                    bottom.add(added.get(i));
+                }
+                overlay = runStart - 1;
+            }
+        }
+        return bottom;
+    }
+
+    /*
+     * First index of the run of salaries equal to the one at end; everything before end is at least as high.
+     */
+    private int baseRunStart(int end) {
+        int salary = columns.salary(order[end]);
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (columns.salary(order[mid]) > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int overlayRunStart(int end) {
+        int salary = added.get(end).getEmployeeSalary();
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (added.get(mid).getEmployeeSalary() > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public synchronized void add(Employee employee) {
+        Integer salary = employee.getEmployeeSalary();
+        if (salary == null) {
+            return;
+        }
+        int index = 0;
+        while (index < added.size() && added.get(index).getEmployeeSalary() >= salary) {
+            index++;
+        }
+        added.add(index, employee);
+    }
+
+    /*
+     * Created employees are matched in the overlay first; loaded ones are found with a binary search of the id index.
+     * Returns the employees that were removed, none when the id was already removed or never had a salary.
+     */
+    public synchronized List<Employee> remove(Long id) {
+        List<Employee> removedEmployees = new ArrayList<>(1);
+        if (id == null) {
+            return removedEmployees;
+        }
+        for (Iterator<Employee> iterator = added.iterator(); iterator.hasNext(); ) {
+            Employee employee = iterator.next();
+            if (Objects.equals(employee.getId(), id)) {
+                iterator.remove();
+                removedEmployees.add(employee);
+            }
+        }
+        if (!removedEmployees.isEmpty()) {
+            return removedEmployees;
+        }
+        int first = idIndex.firstRankOf(id);
+        for (int rank = first; first >= 0 && rank < idIndex.size() && idIndex.idAtRank(rank) == id; rank++) {
+            int position = idIndex.positionAtRank(rank);
+            if (columns.hasSalary(position) && !removed.get(position)) {
+                removed.set(position);
+                removedEmployees.add(columns.employee(position));
+            }
+        }
+        while (firstLive < order.length && removed.get(order[firstLive])) {
+            firstLive++;
+        }
+        return removedEmployees;
+    }
+}
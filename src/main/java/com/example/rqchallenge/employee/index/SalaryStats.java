@@ -0,0 +1,139 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Salary distribution of an employee list, built in one pass over the salary column and updated in
+ * place on create/delete.
+ *
+ * Quantiles come from a log-bucketed sketch with a fixed relative accuracy: a salary v falls in bucket
+ * ceil(log_gamma(v)), so every estimate is within RELATIVE_ACCURACY of a salary of the right rank.
+ * Buckets are plain counts, which makes the sketch mergeable and lets deletes decrement it; its size is
+ * fixed by the int range, not by the number of employees. The histogram counts salaries per fixed bound.
+ * A query reads a constant number of buckets whatever the list size.
+ */
+public class SalaryStats {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    static final int[] HISTOGRAM_BOUNDS = {25_000, 50_000, 75_000, 100_000, 150_000, 200_000, 300_000, 500_000, 1_000_000};
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private static final int SKETCH_BUCKETS = bucketOf(Integer.MAX_VALUE) + 1;
+
+    // Salaries below 1 have no log bucket and are counted apart
+    private long nonPositiveCount;
+
+    private final long[] sketch = new long[SKETCH_BUCKETS];
+
+    private final long[] histogram = new long[HISTOGRAM_BOUNDS.length + 1];
+
+    private long count;
+
+    private long sum;
+
+    public SalaryStats(EmployeeColumns columns) {
+        for (int position = 0; position < columns.size(); position++) {
+            if (columns.hasSalary(position)) {
+                record(columns.salary(position), 1);
+            }
+        }
+    }
+
+    public synchronized void add(Integer salary) {
+        if (salary != null) {
+            record(salary, 1);
+        }
+    }
+
+    public synchronized void remove(Integer salary) {
+        if (salary != null) {
+            record(salary, -1);
+        }
+    }
+
+    /*
+     * Adds the other distribution's counts to this one.
+     */
+    public synchronized void merge(SalaryStats other) {
+        synchronized (other) {
+            nonPositiveCount += other.nonPositiveCount;
+            for (int bucket = 0; bucket < sketch.length; bucket++) {
+                sketch[bucket] += other.sketch[bucket];
+            }
+            for (int bucket = 0; bucket < histogram.length; bucket++) {
+                histogram[bucket] += other.histogram[bucket];
+            }
+            count += other.count;
+            sum += other.sum;
+        }
+    }
+
+    /*
+     * min and max are the exact extremes, which quantile estimates are clamped to.
+     */
+    public synchronized SalaryStatistics statistics(Integer min, Integer max) {
+        List<SalaryStatistics.Bucket> buckets = new ArrayList<>(histogram.length);
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            Integer lowerBound = bucket == 0 ? null : HISTOGRAM_BOUNDS[bucket - 1];
+            Integer upperBound = bucket == HISTOGRAM_BOUNDS.length ? null : HISTOGRAM_BOUNDS[bucket];
+            buckets.add(new SalaryStatistics.Bucket(lowerBound, upperBound, histogram[bucket]));
+        }
+        if (count == 0) {
+            return new SalaryStatistics(0, null, null, null, null, null, null, buckets);
+        }
+        return new SalaryStatistics(count, (double) sum / count, min, max,
+                clamp(quantile(0.5), min, max), clamp(quantile(0.9), min, max), clamp(quantile(0.99), min, max),
+                buckets);
+    }
+
+    private void record(int salary, int delta) {
+        if (salary < 1) {
+            nonPositiveCount += delta;
+        } else {
+            sketch[bucketOf(salary)] += delta;
+        }
+        int histogramBucket = Arrays.binarySearch(HISTOGRAM_BOUNDS, salary);
+        histogram[histogramBucket >= 0 ? histogramBucket + 1 : -histogramBucket - 1] += delta;
+        count += delta;
+        sum += (long) salary * delta;
+    }
+
+    private int quantile(double quantile) {
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = nonPositiveCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int bucket = 0; bucket < sketch.length; bucket++) {
+            seen += sketch[bucket];
+            if (rank < seen) {
+                // Midpoint of the bucket's range (gamma^(i-1), gamma^i] in relative terms
+                return (int) Math.min(Integer.MAX_VALUE, Math.round(2 * Math.pow(GAMMA, bucket) / (GAMMA + 1)));
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static int bucketOf(int salary) {
+        return (int) Math.ceil(Math.log(salary) / LOG_GAMMA);
+    }
+
+    private static Integer clamp(int value, Integer min, Integer max) {
+        int clamped = value;
+        if (min != null) {
+            clamped = Math.max(clamped, min);
+        }
+        if (max != null) {
+            clamped = Math.min(clamped, max);
+        }
+        return clamped;
+    }
+}
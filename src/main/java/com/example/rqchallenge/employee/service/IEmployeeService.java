@@ -1,6 +1,14 @@
 package com.example.rqchallenge.employee.service;
 
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
 import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.Map;
@@ -9,15 +17,33 @@ public interface IEmployeeService {
 
     List<Employee> getAllEmployees();
 
+    EmployeePage getEmployeesPage(Long after, int limit);
+
+    Flux<Employee> streamAllEmployees();
+
+    EmployeeRangePage getEmployeesBySalaryRange(Integer min, Integer max, int offset, int limit);
+
+    List<Map<String, Object>> getTopEarningEmployees(int k, String order, List<String> fields);
+
+    EmployeeRangePage getEmployeesByAgeRange(Integer min, Integer max, int offset, int limit);
+
     List<Employee> getEmployeesByNameSearch(String searchString);
 
     Employee getEmployeeById(String id);
 
+    MultiGetResult getEmployeesByIds(List<String> ids);
+
     Integer getHighestSalaryOfEmployees();
 
+    SalaryStatistics getSalaryStatistics();
+
     List<String> getTop10HighestEarningEmployeeNames();
 
     Employee createEmployee(Map<String, Object> employeeInput);
 
+    List<BatchCreateResult> createEmployees(List<Map<String, Object>> employeeInputs);
+
     String deleteEmployee(String id);
+
+    List<BatchDeleteResult> deleteEmployees(List<String> ids);
 }
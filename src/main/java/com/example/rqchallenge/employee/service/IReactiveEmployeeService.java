@@ -0,0 +1,49 @@
+package com.example.rqchallenge.employee.service;
+
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface IReactiveEmployeeService {
+
+    Flux<Employee> getAllEmployees();
+
+    Mono<EmployeePage> getEmployeesPage(Long after, int limit);
+
+    Flux<Employee> streamAllEmployees();
+
+    Mono<EmployeeRangePage> getEmployeesBySalaryRange(Integer min, Integer max, int offset, int limit);
+
+    Flux<Map<String, Object>> getTopEarningEmployees(int k, String order, List<String> fields);
+
+    Mono<EmployeeRangePage> getEmployeesByAgeRange(Integer min, Integer max, int offset, int limit);
+
+    Flux<Employee> getEmployeesByNameSearch(String searchString);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Mono<MultiGetResult> getEmployeesByIds(List<String> ids);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Mono<SalaryStatistics> getSalaryStatistics();
+
+    Flux<String> getTop10HighestEarningEmployeeNames();
+
+    Mono<Employee> createEmployee(Map<String, Object> employeeInput);
+
+    Flux<BatchCreateResult> createEmployees(List<Map<String, Object>> employeeInputs);
+
+    Mono<String> deleteEmployee(String id);
+
+    Flux<BatchDeleteResult> deleteEmployees(List<String> ids);
+}
@@ -0,0 +1,269 @@
+package com.example.rqchallenge.employee.service.impl;
+
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.MultiGetFailure;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.exception.BadRequestException;
+import com.example.rqchallenge.employee.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.employee.util.AppConstants;
+import com.example.rqchallenge.employee.validator.CreateEmployeeValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+/*
+ * Batch operations shared by the blocking and the reactive service.
+ *
+ * Records are sent to the upstream with bounded concurrency; every request still goes through the
+ * shared rate limiter of the WebClient, which also backs off and retries on 429, and
+ * records-per-second can pace a create batch below it so one batch doesn't take the whole quota.
+ * Results come back in request order.
+ */
+public class EmployeeBatchExecutor {
+
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    private EmployeeByIdCache employeeByIdCache;
+
+    @Autowired
+    @Qualifier("createEmployeeClient")
+    private RestApiServiceClient<Employee, Map<String, Object>> createEmployeeClient;
+
+    @Autowired
+    @Qualifier("getEmployeeByIdClient")
+    private RestApiServiceClient<Optional<Employee>, String> getEmployeeByIdClient;
+
+    @Autowired
+    @Qualifier("deleteEmployeeByIdClient")
+    private RestApiServiceClient<String, String> deleteEmployeeByIdClient;
+
+    @Value("${employee.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${employee.batch.create.concurrency:4}")
+    private int createConcurrency;
+
+    @Value("${employee.batch.create.records-per-second:0}")
+    private double createRecordsPerSecond;
+
+    @Value("${employee.batch.delete.concurrency:4}")
+    private int deleteConcurrency;
+
+    @Value("${employee.multi-get.by-id-threshold:10}")
+    private int multiGetByIdThreshold;
+
+    @Value("${employee.multi-get.concurrency:4}")
+    private int multiGetConcurrency;
+
+    /*
+     * Fails with BadRequestException before any upstream call when the batch is too large or any record is invalid.
+     */
+    public Flux<BatchCreateResult> createEmployees(List<Map<String, Object>> employeeInputs) {
+        validateBatch(employeeInputs);
+
+        Flux<Integer> indexes = Flux.range(0, employeeInputs.size());
+        if (createRecordsPerSecond > 0) {
+            indexes = indexes.delayElements(Duration.ofNanos((long) (1_000_000_000L / createRecordsPerSecond)));
+        }
+        return indexes.flatMapSequential(index -> createEmployee(index, employeeInputs.get(index)),
+                Math.max(1, createConcurrency));
+    }
+
+    private Mono<BatchCreateResult> createEmployee(int index, Map<String, Object> employeeInput) {
+        return Mono.defer(() -> createEmployeeClient.executeAsync(employeeInput))
+                .map(employee -> {
+                    employeeSnapshotCache.onEmployeeCreated(employee);
+                    employeeByIdCache.put(employee);
+                    return BatchCreateResult.created(index, employee);
+                })
+                .onErrorResume(exception -> {
+                    log.warn("[CreateEmployees]: Record {} failed: {}", index, exception.getMessage());
+                    return Mono.just(BatchCreateResult.failed(index, exception));
+                });
+    }
+
+    /*
+     * Ids known locally are served from the id cache. Up to by-id-threshold remaining ids are fetched
+     * with concurrent by-id calls; beyond that one employee list fetch is cheaper on the quota. As with
+     * a batch delete, an id the snapshot doesn't know is looked up by id, since the snapshot can be older
+     * than employees created since. A failed lookup, or a failed snapshot load for the ids waiting on
+     * it, is reported per id rather than failing the whole multi-get.
+     */
+    public Mono<MultiGetResult> getEmployees(List<String> empIds) {
+        List<String> uniqueIds = uniqueIds(empIds);
+        Map<String, Employee> employees = new ConcurrentHashMap<>();
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        List<String> unresolved = new ArrayList<>();
+        for (String empId : uniqueIds) {
+            employeeByIdCache.get(empId).ifPresentOrElse(employee -> employees.put(empId, employee),
+                    () -> unresolved.add(empId));
+        }
+
+        Mono<List<String>> toLookUp;
+        if (unresolved.size() <= multiGetByIdThreshold) {
+            toLookUp = Mono.just(unresolved);
+        } else {
+            toLookUp = employeeSnapshotCache.getAsync()
+                    .map(snapshot -> {
+                        List<String> notInSnapshot = new ArrayList<>();
+                        for (String empId : unresolved) {
+                            snapshot.findById(EmployeeByIdCache.toId(empId)).ifPresentOrElse(
+                                    employee -> employees.put(empId, employee), () -> notInSnapshot.add(empId));
+                        }
+                        return notInSnapshot;
+                    })
+                    .onErrorResume(exception -> {
+                        log.warn("[GetEmployeesByIds]: Snapshot load failed: {}", exception.getMessage());
+                        unresolved.forEach(empId -> failures.put(empId, exception));
+                        return Mono.just(List.of());
+                    });
+        }
+
+        return toLookUp
+                .flatMapMany(empIdsToLookUp -> Flux.fromIterable(empIdsToLookUp)
+                        .flatMap(empId -> lookUpEmployee(empId, employees, failures), Math.max(1, multiGetConcurrency)))
+                .then(Mono.fromCallable(() -> {
+                    List<Employee> foundInOrder = new ArrayList<>(employees.size());
+                    List<String> missing = new ArrayList<>();
+                    List<MultiGetFailure> failed = new ArrayList<>();
+                    for (String empId : uniqueIds) {
+                        Employee employee = employees.get(empId);
+                        Throwable failure = failures.get(empId);
+                        if (employee != null) {
+                            foundInOrder.add(employee);
+                        } else if (failure != null) {
+                            failed.add(MultiGetFailure.failed(empId, failure));
+                        } else {
+                            missing.add(empId);
+                        }
+                    }
+                    return new MultiGetResult(foundInOrder, missing, failed);
+                }));
+    }
+
+    private Mono<Void> lookUpEmployee(String empId, Map<String, Employee> employees, Map<String, Throwable> failures) {
+        return Mono.defer(() -> getEmployeeByIdClient.executeAsync(empId))
+                .onErrorResume(EmployeeNotFoundException.class, exception -> Mono.just(Optional.empty()))
+                .doOnNext(lookedUp -> lookedUp.ifPresent(employee -> {
+                    employeeByIdCache.put(employee);
+                    employees.put(empId, employee);
+                }))
+                .onErrorResume(exception -> {
+                    log.warn("[GetEmployeesByIds]: Lookup of {} failed: {}", empId, exception.getMessage());
+                    failures.put(empId, exception);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /*
+     * Names are resolved up front from the id cache, and for the rest from one snapshot load instead of
+     * a lookup per id. The snapshot can be older than employees created since, so an id it doesn't know
+     * is looked up by id before deleting; only the upstream reports it as not found.
+     */
+    public Flux<BatchDeleteResult> deleteEmployees(List<String> empIds) {
+        List<String> uniqueIds = uniqueIds(empIds);
+        return resolveEmployees(uniqueIds)
+                .flatMapMany(employees -> Flux.fromIterable(uniqueIds)
+                        .flatMapSequential(empId -> deleteEmployee(empId, employees.get(empId)),
+                                Math.max(1, deleteConcurrency)));
+    }
+
+    private Mono<Map<String, Employee>> resolveEmployees(List<String> empIds) {
+        Map<String, Employee> employees = new HashMap<>();
+        List<String> unresolved = new ArrayList<>();
+        for (String empId : empIds) {
+            employeeByIdCache.get(empId).ifPresentOrElse(employee -> employees.put(empId, employee),
+                    () -> unresolved.add(empId));
+        }
+        if (unresolved.isEmpty()) {
+            return Mono.just(employees);
+        }
+        return employeeSnapshotCache.getAsync().map(snapshot -> {
+            for (String empId : unresolved) {
+                snapshot.findById(EmployeeByIdCache.toId(empId)).ifPresent(employee -> employees.put(empId, employee));
+            }
+            return employees;
+        });
+    }
+
+    private Mono<BatchDeleteResult> deleteEmployee(String empId, Employee employee) {
+        if (employee != null) {
+            return deleteKnownEmployee(empId, employee);
+        }
+        return Mono.defer(() -> getEmployeeByIdClient.executeAsync(empId))
+                .onErrorResume(EmployeeNotFoundException.class, exception -> Mono.just(Optional.empty()))
+                .flatMap(lookedUp -> lookedUp.isPresent()
+                        ? deleteKnownEmployee(empId, lookedUp.get())
+                        : Mono.just(BatchDeleteResult.notFound(empId)))
+                .onErrorResume(exception -> {
+                    log.warn("[DeleteEmployees]: Lookup of {} failed: {}", empId, exception.getMessage());
+                    return Mono.just(BatchDeleteResult.failed(empId, null, exception));
+                });
+    }
+
+    private Mono<BatchDeleteResult> deleteKnownEmployee(String empId, Employee employee) {
+        return Mono.defer(() -> deleteEmployeeByIdClient.executeAsync(empId))
+                .map(status -> {
+                    employeeSnapshotCache.onEmployeeDeleted(employee.getId());
+                    employeeByIdCache.invalidate(employee.getId());
+                    return BatchDeleteResult.deleted(empId, employee.getEmployeeName());
+                })
+                .onErrorResume(exception -> {
+                    log.warn("[DeleteEmployees]: Delete of {} failed: {}", empId, exception.getMessage());
+                    return Mono.just(BatchDeleteResult.failed(empId, employee.getEmployeeName(), exception));
+                });
+    }
+
+    private List<String> uniqueIds(List<String> empIds) {
+        if (empIds == null || empIds.isEmpty() || empIds.contains(null)) {
+            throw new BadRequestException(AppConstants.BAD_INPUT_EXCEPTION_MESSAGE);
+        }
+        List<String> uniqueIds = new ArrayList<>(new LinkedHashSet<>(empIds));
+        if (uniqueIds.size() > maxBatchSize) {
+            throw new BadRequestException(AppConstants.BATCH_SIZE_EXCEEDED_MESSAGE + maxBatchSize);
+        }
+        return uniqueIds;
+    }
+
+    private void validateBatch(List<Map<String, Object>> employeeInputs) {
+        if (employeeInputs == null || employeeInputs.isEmpty()) {
+            throw new BadRequestException(AppConstants.BAD_INPUT_EXCEPTION_MESSAGE);
+        }
+        if (employeeInputs.size() > maxBatchSize) {
+            throw new BadRequestException(AppConstants.BATCH_SIZE_EXCEEDED_MESSAGE + maxBatchSize);
+        }
+        List<Integer> invalidIndexes = new ArrayList<>();
+        for (int index = 0; index < employeeInputs.size(); index++) {
+            if (!CreateEmployeeValidator.isValid(employeeInputs.get(index))) {
+                invalidIndexes.add(index);
+            }
+        }
+        if (!invalidIndexes.isEmpty()) {
+            log.info("[CreateEmployees]: Rejecting batch with invalid records {}", invalidIndexes);
+            throw new BadRequestException(AppConstants.INVALID_BATCH_RECORDS_MESSAGE + invalidIndexes);
+        }
+    }
+}
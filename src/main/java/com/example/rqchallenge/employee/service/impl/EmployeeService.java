@@ -1,15 +1,31 @@
 package com.example.rqchallenge.employee.service.impl;
 
 import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
 import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import com.example.rqchallenge.employee.exception.BadRequestException;
 import com.example.rqchallenge.employee.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.employee.index.SalaryAggregate;
 import com.example.rqchallenge.employee.service.IEmployeeService;
+import com.example.rqchallenge.employee.util.AppConstants;
+import com.example.rqchallenge.employee.util.EmployeeField;
+import com.example.rqchallenge.employee.util.HotPathLog;
 import com.example.rqchallenge.employee.validator.CreateEmployeeValidator;
+import com.example.rqchallenge.employee.validator.RangeQueryValidator;
+import com.example.rqchallenge.employee.validator.TopQueryValidator;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -22,8 +38,22 @@ import java.util.stream.Collectors;
 public class EmployeeService implements IEmployeeService {
 
     @Autowired
-    @Qualifier("getAllEmployeesClient")
-    private RestApiServiceClient<List<Employee>, Void> getAllEmployeesClient;
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    private EmployeeByIdCache employeeByIdCache;
+
+    @Autowired
+    private EmployeeBatchExecutor employeeBatchExecutor;
+
+    @Autowired
+    private HotPathLog hotPathLog;
+
+    @Value("${employee.page.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${employee.top.max-k:10000}")
+    private int maxTopK;
 
     @Autowired
     @Qualifier("createEmployeeClient")
@@ -39,120 +69,208 @@ public class EmployeeService implements IEmployeeService {
 
     @Override
     public List<Employee> getAllEmployees() {
-        log.info("[GetAllEmployees]: Entering Service ");
-        List<Employee> employees = getAllEmployeesClient.execute(null);
-        log.info("[GetAllEmployees]: Fetched {} Employees", employees.size());
-        log.info("[GetAllEmployees]: Exiting Service ");
+        log.debug("[GetAllEmployees]: Entering Service ");
+        List<Employee> employees = employeeSnapshotCache.get().getEmployees();
+        log.debug("[GetAllEmployees]: Fetched {} Employees", employees.size());
+        log.debug("[GetAllEmployees]: Exiting Service ");
         return employees;
     }
 
+    @Override
+    public EmployeePage getEmployeesPage(Long after, int limit) {
+        if (limit < 1 || limit > maxPageLimit) {
+            throw new BadRequestException(AppConstants.INVALID_PAGE_LIMIT_MESSAGE + maxPageLimit);
+        }
+        return employeeSnapshotCache.get().page(after, limit);
+    }
+
+    @Override
+    public Flux<Employee> streamAllEmployees() {
+        return employeeSnapshotCache.stream();
+    }
+
+    @Override
+    public EmployeeRangePage getEmployeesBySalaryRange(Integer min, Integer max, int offset, int limit) {
+        int from = min == null ? Integer.MIN_VALUE : min;
+        int to = max == null ? Integer.MAX_VALUE : max;
+        RangeQueryValidator.validate(from, to, offset, limit, maxPageLimit);
+        return employeeSnapshotCache.get().salaryRange(from, to, offset, limit);
+    }
+
+    @Override
+    public EmployeeRangePage getEmployeesByAgeRange(Integer min, Integer max, int offset, int limit) {
+        int from = min == null ? Integer.MIN_VALUE : min;
+        int to = max == null ? Integer.MAX_VALUE : max;
+        RangeQueryValidator.validate(from, to, offset, limit, maxPageLimit);
+        return employeeSnapshotCache.get().ageRange(from, to, offset, limit);
+    }
+
     @Override
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        log.info("[GetEmployeesByNameSearch]: Entering Service ");
+        log.debug("[GetEmployeesByNameSearch]: Entering Service ");
 
-        final List<Employee> allEmployees = getAllEmployees();
-        final List<Employee> filteredEmployees = allEmployees.stream()
-                .filter(employee ->
-                                StringUtils.containsIgnoreCase(employee.getEmployeeName(), searchString))
-                .collect(Collectors.toList());
+        final List<Employee> filteredEmployees = employeeSnapshotCache.get().searchByName(searchString);
 
-        log.info("[GetEmployeesByNameSearch]: Filtered Employees size based on searchString {}", filteredEmployees.size());
-        log.info("[GetEmployeesByNameSearch]: Filtered Employees based on searchString {}", filteredEmployees);
-        log.info("[GetEmployeesByNameSearch]: Exiting Service");
+        if (hotPathLog.sampled()) {
+            log.info("[GetEmployeesByNameSearch]: Filtered Employees based on searchString {}",
+                    hotPathLog.summary(filteredEmployees));
+        }
+        log.debug("[GetEmployeesByNameSearch]: Exiting Service");
 
         return filteredEmployees;
     }
 
     @Override
     public Employee getEmployeeById(String empId) {
-        log.info("[GetEmployeeById]: Entering Service ");
-        log.info("[GetEmployeeById]: Searching employee by Id {}", empId);
+        log.debug("[GetEmployeeById]: Entering Service ");
+        log.debug("[GetEmployeeById]: Searching employee by Id {}", empId);
 
-        Optional<Employee> optionalEmployee = getEmployeeByIdClient.execute(empId);
+        Optional<Employee> optionalEmployee = employeeByIdCache.get(empId);
+        if (!optionalEmployee.isPresent()) {
+            optionalEmployee = getEmployeeByIdClient.execute(empId);
+            optionalEmployee.ifPresent(employeeByIdCache::put);
+        }
 
         if(!optionalEmployee.isPresent()) {
             log.error("[GetEmployeeById]: Employee Not Found with id {}", empId);
             throw new EmployeeNotFoundException(empId);
         }
 
-        log.info("[GetEmployeeById]: Employee found : {}", optionalEmployee.get());
-        log.info("[GetEmployeeById]: Exiting Service ");
+        if (hotPathLog.sampled()) {
+            log.info("[GetEmployeeById]: Employee found : {}", hotPathLog.summary(optionalEmployee.get()));
+        }
+        log.debug("[GetEmployeeById]: Exiting Service ");
         return optionalEmployee.get();
     }
 
+    @Override
+    public MultiGetResult getEmployeesByIds(List<String> empIds) {
+        log.debug("[GetEmployeesByIds]: Entering Service ");
+        final MultiGetResult result = employeeBatchExecutor.getEmployees(empIds).block();
+        log.debug("[GetEmployeesByIds]: Found {}, missing {}", result.getFound().size(), result.getMissing().size());
+        log.debug("[GetEmployeesByIds]: Exiting Service ");
+        return result;
+    }
+
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        log.info("[GetHighestSalaryOfEmployees]: Entering Service ");
+        log.debug("[GetHighestSalaryOfEmployees]: Entering Service ");
 
-        List<Employee> employees = getAllEmployees();
-        Integer highestSalary = findHighestSalary(employees);
+        Integer highestSalary = employeeSnapshotCache.get().getSalaryAggregate().highestSalary();
 
-        log.info("[GetHighestSalaryOfEmployees]: Highest Salary found {}", highestSalary);
-        log.info("[GetHighestSalaryOfEmployees]: Exiting Service ");
+        log.debug("[GetHighestSalaryOfEmployees]: Highest Salary found {}", highestSalary);
+        log.debug("[GetHighestSalaryOfEmployees]: Exiting Service ");
         return highestSalary;
     }
 
-    private Integer findHighestSalary(List<Employee> employees) {
-        Integer maxSalary = Integer.MIN_VALUE;
-        for (Employee employee: employees) {
-            if(employee.getEmployeeSalary() > maxSalary)
-                maxSalary = employee.getEmployeeSalary();
-        }
+    @Override
+    public SalaryStatistics getSalaryStatistics() {
+        log.debug("[GetSalaryStatistics]: Entering Service ");
+
+        SalaryStatistics salaryStatistics = employeeSnapshotCache.get().salaryStatistics();
 
-        return maxSalary;
+        log.debug("[GetSalaryStatistics]: Exiting Service with statistics over {} salaries", salaryStatistics.getCount());
+        return salaryStatistics;
     }
 
     @Override
     public List<String> getTop10HighestEarningEmployeeNames() {
-        log.info("[GetTopTenHighestEarningEmployeeNames]: Entering Service ");
+        log.debug("[GetTopTenHighestEarningEmployeeNames]: Entering Service ");
 
-        List<Employee> employees = getAllEmployees();
-        final List<String> topTenHighestEarningEmployeeNames = findTopTenHighestEarningEmployeeNames(employees);
+        final List<String> topTenHighestEarningEmployeeNames = findTopTenHighestEarningEmployeeNames();
 
-        log.info("[GetTopTenHighestEarningEmployeeNames]: top Ten Employees {}", topTenHighestEarningEmployeeNames);
-        log.info("[GetTopTenHighestEarningEmployeeNames]: Exiting Service ");
+        if (hotPathLog.sampled()) {
+            log.info("[GetTopTenHighestEarningEmployeeNames]: top Ten Employees {}",
+                    hotPathLog.summary(topTenHighestEarningEmployeeNames));
+        }
+        log.debug("[GetTopTenHighestEarningEmployeeNames]: Exiting Service ");
         return topTenHighestEarningEmployeeNames;
     }
 
-    private List<String> findTopTenHighestEarningEmployeeNames(List<Employee> employees) {
-        PriorityQueue<Employee> priorityQueue = new PriorityQueue<>(Comparator.comparingInt(Employee::getEmployeeSalary));
+    private List<String> findTopTenHighestEarningEmployeeNames() {
+        return employeeSnapshotCache.get().getSalaryAggregate().top(10).stream()
+                .map(Employee::getEmployeeName)
+                .collect(Collectors.toList());
+    }
 
-        for (Employee employee : employees) {
-            priorityQueue.add(employee);
+    @Override
+    public List<Map<String, Object>> getTopEarningEmployees(int k, String order, List<String> fields) {
+        log.debug("[GetTopEarningEmployees]: Entering Service ");
+        boolean highestFirst = TopQueryValidator.validate(k, order, maxTopK);
+        List<EmployeeField> projection = EmployeeField.parse(fields);
 
-            if (priorityQueue.size() > 10) {
-                priorityQueue.poll();
-            }
-        }
+        SalaryAggregate salaryAggregate = employeeSnapshotCache.get().getSalaryAggregate();
+        List<Employee> selected = highestFirst ? salaryAggregate.top(k) : salaryAggregate.bottom(k);
 
-        List<String> employeeNames = priorityQueue.stream().map(Employee::getEmployeeName).collect(Collectors.toList());
-        Collections.reverse(employeeNames);
-        return employeeNames;
+        log.debug("[GetTopEarningEmployees]: Exiting Service with {} Employees", selected.size());
+        return selected.stream()
+                .map(employee -> EmployeeField.project(employee, projection))
+                .collect(Collectors.toList());
     }
 
     @Override
     public Employee createEmployee(Map<String, Object> employeeInput) {
-        log.info("[CreateEmployee]: Entering Service ");
+        log.debug("[CreateEmployee]: Entering Service ");
         // Validate data received before adding
         CreateEmployeeValidator.validate(employeeInput);
         final Employee employee = createEmployeeClient.execute(employeeInput);
-        log.info("[CreateEmployee]: Employee Created {}", employee);
-        log.info("[CreateEmployee]: Exiting Service ");
+        employeeSnapshotCache.onEmployeeCreated(employee);
+        employeeByIdCache.put(employee);
+        log.info("[CreateEmployee]: Employee Created {}", hotPathLog.summary(employee));
+        log.debug("[CreateEmployee]: Exiting Service ");
         return employee;
     }
 
+    @Override
+    public List<BatchCreateResult> createEmployees(List<Map<String, Object>> employeeInputs) {
+        log.debug("[CreateEmployees]: Entering Service ");
+        final List<BatchCreateResult> results = employeeBatchExecutor.createEmployees(employeeInputs).collectList().block();
+        log.info("[CreateEmployees]: Processed batch of {} records", results.size());
+        log.debug("[CreateEmployees]: Exiting Service ");
+        return results;
+    }
+
+    /*
+     * When the employee is known locally (id cache or snapshot) the delete is the only upstream call.
+     * Otherwise it is looked up first, so an unknown id is a 404 without a DELETE being sent, and
+     * nothing can fail the request once the delete has succeeded.
+     */
     @Override
     public String deleteEmployee(String empId) {
-        log.info("[DeleteEmployee]: Entering Service ");
-        final Employee employee = getEmployeeById(empId);
-        String status = deleteEmployeeByIdClient.execute(empId);
+        log.debug("[DeleteEmployee]: Entering Service ");
+        final Optional<Employee> knownEmployee = employeeByIdCache.get(empId);
+        final Employee employee;
+        if (knownEmployee.isPresent()) {
+            employee = knownEmployee.get();
+        } else {
+            Optional<Employee> lookedUp = getEmployeeByIdClient.execute(empId);
+            if (lookedUp == null || !lookedUp.isPresent()) {
+                log.error("[DeleteEmployee]: Employee Not Found with id {}", empId);
+                throw new EmployeeNotFoundException(empId);
+            }
+            employee = lookedUp.get();
+        }
 
+        String status = deleteEmployeeByIdClient.execute(empId);
+        onEmployeeDeleted(employee.getId());
         log.info("[DeleteEmployee]: Employee deletion status {}", status);
 
-        final String employeeName = employee.getEmployeeName();
+        log.debug("[DeleteEmployee]: Employee Name {}", employee.getEmployeeName());
+        log.debug("[DeleteEmployee]: Exiting Service ");
+        return employee.getEmployeeName();
+    }
+
+    @Override
+    public List<BatchDeleteResult> deleteEmployees(List<String> empIds) {
+        log.debug("[DeleteEmployees]: Entering Service ");
+        final List<BatchDeleteResult> results = employeeBatchExecutor.deleteEmployees(empIds).collectList().block();
+        log.info("[DeleteEmployees]: Processed batch of {} ids", results.size());
+        log.debug("[DeleteEmployees]: Exiting Service ");
+        return results;
+    }
 
-        log.info("[DeleteEmployee]: Employee Name {}", employeeName);
-        log.info("[DeleteEmployee]: Exiting Service ");
-        return employeeName;
+    private void onEmployeeDeleted(Long id) {
+        employeeSnapshotCache.onEmployeeDeleted(id);
+        employeeByIdCache.invalidate(id);
     }
 }
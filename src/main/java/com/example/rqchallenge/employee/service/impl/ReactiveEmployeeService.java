@@ -0,0 +1,209 @@
+package com.example.rqchallenge.employee.service.impl;
+
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshot;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import com.example.rqchallenge.employee.exception.BadRequestException;
+import com.example.rqchallenge.employee.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.employee.service.IReactiveEmployeeService;
+import com.example.rqchallenge.employee.util.AppConstants;
+import com.example.rqchallenge.employee.util.EmployeeField;
+import com.example.rqchallenge.employee.util.HotPathLog;
+import com.example.rqchallenge.employee.validator.CreateEmployeeValidator;
+import com.example.rqchallenge.employee.validator.RangeQueryValidator;
+import com.example.rqchallenge.employee.validator.TopQueryValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "employee.api.mode", havingValue = "reactive")
+/*
+ * Non-blocking counterpart of EmployeeService; upstream calls are never blocked on
+ */
+public class ReactiveEmployeeService implements IReactiveEmployeeService {
+
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    private EmployeeByIdCache employeeByIdCache;
+
+    @Autowired
+    private EmployeeBatchExecutor employeeBatchExecutor;
+
+    @Autowired
+    private HotPathLog hotPathLog;
+
+    @Value("${employee.page.max-limit:1000}")
+    private int maxPageLimit;
+
+    @Value("${employee.top.max-k:10000}")
+    private int maxTopK;
+
+    @Autowired
+    @Qualifier("createEmployeeClient")
+    private RestApiServiceClient<Employee, Map<String, Object>> createEmployeeClient;
+
+    @Autowired
+    @Qualifier("getEmployeeByIdClient")
+    private RestApiServiceClient<Optional<Employee>, String> getEmployeeByIdClient;
+
+    @Autowired
+    @Qualifier("deleteEmployeeByIdClient")
+    private RestApiServiceClient<String, String> deleteEmployeeByIdClient;
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return employeeSnapshotCache.getAsync()
+                .flatMapIterable(EmployeeSnapshot::getEmployees);
+    }
+
+    @Override
+    public Mono<EmployeePage> getEmployeesPage(Long after, int limit) {
+        if (limit < 1 || limit > maxPageLimit) {
+            return Mono.error(new BadRequestException(AppConstants.INVALID_PAGE_LIMIT_MESSAGE + maxPageLimit));
+        }
+        return employeeSnapshotCache.getAsync().map(snapshot -> snapshot.page(after, limit));
+    }
+
+    @Override
+    public Flux<Employee> streamAllEmployees() {
+        return Flux.defer(employeeSnapshotCache::stream);
+    }
+
+    @Override
+    public Mono<EmployeeRangePage> getEmployeesBySalaryRange(Integer min, Integer max, int offset, int limit) {
+        int from = min == null ? Integer.MIN_VALUE : min;
+        int to = max == null ? Integer.MAX_VALUE : max;
+        return Mono.fromRunnable(() -> RangeQueryValidator.validate(from, to, offset, limit, maxPageLimit))
+                .then(Mono.defer(employeeSnapshotCache::getAsync))
+                .map(snapshot -> snapshot.salaryRange(from, to, offset, limit));
+    }
+
+    @Override
+    public Mono<EmployeeRangePage> getEmployeesByAgeRange(Integer min, Integer max, int offset, int limit) {
+        int from = min == null ? Integer.MIN_VALUE : min;
+        int to = max == null ? Integer.MAX_VALUE : max;
+        return Mono.fromRunnable(() -> RangeQueryValidator.validate(from, to, offset, limit, maxPageLimit))
+                .then(Mono.defer(employeeSnapshotCache::getAsync))
+                .map(snapshot -> snapshot.ageRange(from, to, offset, limit));
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByNameSearch(String searchString) {
+        return employeeSnapshotCache.getAsync()
+                .flatMapIterable(snapshot -> snapshot.searchByName(searchString));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String empId) {
+        return Mono.justOrEmpty(employeeByIdCache.get(empId))
+                .switchIfEmpty(Mono.defer(() -> getEmployeeByIdClient.executeAsync(empId)
+                        .flatMap(optionalEmployee -> Mono.justOrEmpty(optionalEmployee))
+                        .doOnNext(employeeByIdCache::put)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.error("[GetEmployeeById]: Employee Not Found with id {}", empId);
+                    return Mono.error(new EmployeeNotFoundException(empId));
+                }));
+    }
+
+    @Override
+    public Mono<MultiGetResult> getEmployeesByIds(List<String> empIds) {
+        return Mono.defer(() -> employeeBatchExecutor.getEmployees(empIds));
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return employeeSnapshotCache.getAsync()
+                .map(snapshot -> snapshot.getSalaryAggregate().highestSalary());
+    }
+
+    @Override
+    public Mono<SalaryStatistics> getSalaryStatistics() {
+        return employeeSnapshotCache.getAsync().map(EmployeeSnapshot::salaryStatistics);
+    }
+
+    @Override
+    public Flux<String> getTop10HighestEarningEmployeeNames() {
+        return employeeSnapshotCache.getAsync()
+                .flatMapIterable(snapshot -> snapshot.getSalaryAggregate().top(10))
+                .map(Employee::getEmployeeName);
+    }
+
+    @Override
+    public Flux<Map<String, Object>> getTopEarningEmployees(int k, String order, List<String> fields) {
+        return Mono.fromCallable(() -> TopQueryValidator.validate(k, order, maxTopK))
+                .zipWith(Mono.fromCallable(() -> EmployeeField.parse(fields)))
+                .flatMapMany(query -> employeeSnapshotCache.getAsync()
+                        .flatMapIterable(snapshot -> query.getT1()
+                                ? snapshot.getSalaryAggregate().top(k)
+                                : snapshot.getSalaryAggregate().bottom(k))
+                        .map(employee -> EmployeeField.project(employee, query.getT2())));
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(Map<String, Object> employeeInput) {
+        return Mono.fromRunnable(() -> CreateEmployeeValidator.validate(employeeInput))
+                .then(createEmployeeClient.executeAsync(employeeInput))
+                .doOnNext(employee -> {
+                    employeeSnapshotCache.onEmployeeCreated(employee);
+                    employeeByIdCache.put(employee);
+                    log.info("[CreateEmployee]: Employee Created {}", hotPathLog.summary(employee));
+                });
+    }
+
+    @Override
+    public Flux<BatchCreateResult> createEmployees(List<Map<String, Object>> employeeInputs) {
+        return Flux.defer(() -> employeeBatchExecutor.createEmployees(employeeInputs));
+    }
+
+    /*
+     * Same semantics as EmployeeService.deleteEmployee: a locally known employee costs only the delete,
+     * otherwise the delete is sent once the lookup has found the employee.
+     */
+    @Override
+    public Mono<String> deleteEmployee(String empId) {
+        return Mono.justOrEmpty(employeeByIdCache.get(empId))
+                .switchIfEmpty(Mono.defer(() -> getEmployeeByIdClient.executeAsync(empId))
+                        .flatMap(Mono::justOrEmpty)
+                        .switchIfEmpty(Mono.defer(() -> {
+                            log.error("[DeleteEmployee]: Employee Not Found with id {}", empId);
+                            return Mono.error(new EmployeeNotFoundException(empId));
+                        })))
+                .flatMap(employee -> deleteEmployeeByIdClient.executeAsync(empId)
+                        .doOnNext(status -> {
+                            onEmployeeDeleted(employee.getId());
+                            log.info("[DeleteEmployee]: Employee deletion status {}", status);
+                        })
+                        .thenReturn(employee.getEmployeeName()));
+    }
+
+    @Override
+    public Flux<BatchDeleteResult> deleteEmployees(List<String> empIds) {
+        return Flux.defer(() -> employeeBatchExecutor.deleteEmployees(empIds));
+    }
+
+    private void onEmployeeDeleted(Long id) {
+        employeeSnapshotCache.onEmployeeDeleted(id);
+        employeeByIdCache.invalidate(id);
+    }
+}
@@ -5,5 +5,11 @@ public class AppConstants {
     public static final String INTERNAL_SERVER_ERROR_OCCURRED_MESSAGE = "Internal Server Error Occurred While calling Employee Management API";
     public static final String JSON_PARSING_EXCEPTION_MESSAGE = "Json Parsing Exception occurred while extracting api response";
     public static final String EMPLOYEE_NOT_FOUND_WITH_ID_MESSAGE = "Employee Not found with id: ";
+    public static final String INVALID_BATCH_RECORDS_MESSAGE = "Bad Input received for records at index: ";
+    public static final String BATCH_SIZE_EXCEEDED_MESSAGE = "Batch size exceeds the maximum of ";
+    public static final String INVALID_PAGE_LIMIT_MESSAGE = "Page limit must be between 1 and ";
+    public static final String INVALID_RANGE_QUERY_MESSAGE = "Range query needs min <= max, offset >= 0 and limit between 1 and ";
+    public static final String INVALID_TOP_QUERY_MESSAGE = "Top query needs order asc or desc and k between 1 and ";
+    public static final String INVALID_EMPLOYEE_FIELD_MESSAGE = "Unknown employee field: ";
     public static final String TOO_MANY_REQUESTS_MESSAGE = "Too Many Requests, Please wait for some time and try again.";
 }
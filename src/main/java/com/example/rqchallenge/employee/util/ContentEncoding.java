@@ -0,0 +1,111 @@
+package com.example.rqchallenge.employee.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * Response content codings this service can produce, in order of preference for equal q-values.
+ * deflate is the zlib format HTTP names deflate, not a raw deflate stream.
+ */
+public enum ContentEncoding {
+
+    GZIP("gzip"),
+    DEFLATE("deflate"),
+    IDENTITY("identity");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    /*
+     * The acceptable coding with the highest q-value in an Accept-Encoding header. Identity is acceptable
+     * unless refused, and is also the answer when nothing is acceptable, since it is all a client can be
+     * expected to decode.
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        Map<String, Double> qualities = new HashMap<>();
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            double quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    quality = parseQuality(parameter.substring(2));
+                }
+            }
+            qualities.put(parameters[0].trim().toLowerCase(Locale.ROOT), quality);
+        }
+
+        ContentEncoding best = IDENTITY;
+        double bestQuality = 0;
+        for (ContentEncoding encoding : values()) {
+            double fallback = qualities.getOrDefault("*", encoding == IDENTITY ? 1.0 : 0.0);
+            double quality = qualities.getOrDefault(encoding.token, fallback);
+            if (quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    public byte[] encode(byte[] body) {
+        switch (this) {
+            case GZIP:
+                return compress(body, encoded -> new GZIPOutputStream(encoded, BUFFER_SIZE));
+            case DEFLATE:
+                Deflater deflater = new Deflater();
+                try {
+                    return compress(body, encoded -> new DeflaterOutputStream(encoded, deflater, BUFFER_SIZE));
+                } finally {
+                    // A stream given its Deflater leaves ending it to the caller
+                    deflater.end();
+                }
+            default:
+                return body;
+        }
+    }
+
+    private static byte[] compress(byte[] body, Compressor compressor) {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (OutputStream out = compressor.wrap(encoded)) {
+            out.write(body);
+        } catch (IOException ioException) {
+            // Only the in-memory stream is written to
+            throw new UncheckedIOException(ioException);
+        }
+        return encoded.toByteArray();
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException numberFormatException) {
+            return 0;
+        }
+    }
+
+    private interface Compressor {
+
+        OutputStream wrap(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.rqchallenge.employee.util;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+ * Employee fields by their JSON names, for endpoints that let the caller pick the fields of each record
+ */
+public enum EmployeeField {
+
+    ID("id", Employee::getId),
+    NAME("employee_name", Employee::getEmployeeName),
+    SALARY("employee_salary", Employee::getEmployeeSalary),
+    AGE("employee_age", Employee::getEmployeeAge),
+    PROFILE_IMAGE("profile_image", Employee::getProfileImage);
+
+    private final String jsonName;
+
+    private final Function<Employee, Object> getter;
+
+    EmployeeField(String jsonName, Function<Employee, Object> getter) {
+        this.jsonName = jsonName;
+        this.getter = getter;
+    }
+
+    /*
+     * All fields when none are requested; unknown names are a bad request.
+     */
+    public static List<EmployeeField> parse(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return Arrays.asList(values());
+        }
+        List<EmployeeField> fields = new ArrayList<>(names.size());
+        for (String name : names) {
+            EmployeeField field = Arrays.stream(values())
+                    .filter(candidate -> candidate.jsonName.equals(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException(AppConstants.INVALID_EMPLOYEE_FIELD_MESSAGE + name));
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    public static Map<String, Object> project(Employee employee, List<EmployeeField> fields) {
+        Map<String, Object> projected = new LinkedHashMap<>(fields.size() * 2);
+        for (EmployeeField field : fields) {
+            projected.put(field.jsonName, field.getter.apply(employee));
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.rqchallenge.employee.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * A response body serialized once, with its compressed variants built on first request and kept
+ * alongside it. The value it was serialized from is held by identity, so a caller can tell whether
+ * the body still applies without comparing contents.
+ */
+public class EncodedBody {
+
+    private final Object source;
+
+    private final byte[] identity;
+
+    private final Map<ContentEncoding, byte[]> encoded = new ConcurrentHashMap<>();
+
+    public EncodedBody(Object source, byte[] identity) {
+        this.source = source;
+        this.identity = identity;
+    }
+
+    public boolean isOf(Object value) {
+        return source == value;
+    }
+
+    /*
+     * Concurrent first requests for one encoding wait for a single compression.
+     */
+    public byte[] bytes(ContentEncoding encoding) {
+        if (encoding == ContentEncoding.IDENTITY) {
+            return identity;
+        }
+        return encoded.computeIfAbsent(encoding, variant -> variant.encode(identity));
+    }
+}
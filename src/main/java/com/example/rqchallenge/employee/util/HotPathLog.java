@@ -0,0 +1,113 @@
+package com.example.rqchallenge.employee.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+/*
+ * Logging helpers for the per-request controller and service paths, configured by the employee.logging.* properties.
+ *
+ * In FULL mode every request logs its payloads in full, as before. In SUMMARY mode payload lines are
+ * written for one request in sample-rate, and lists and records are rendered as size-capped summaries.
+ * Summaries are only rendered when the logger actually formats the message, so a disabled level
+ * costs one small allocation and no toString work.
+ */
+public class HotPathLog {
+
+    public enum Mode { FULL, SUMMARY }
+
+    private final Mode mode;
+
+    private final int sampleRate;
+
+    private final int maxItems;
+
+    private final int maxChars;
+
+    public HotPathLog(@Value("${employee.logging.mode:SUMMARY}") Mode mode,
+                      @Value("${employee.logging.sample-rate:100}") int sampleRate,
+                      @Value("${employee.logging.max-items:5}") int maxItems,
+                      @Value("${employee.logging.max-chars:512}") int maxChars) {
+        this.mode = mode;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxItems = Math.max(0, maxItems);
+        this.maxChars = Math.max(16, maxChars);
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /*
+     * Whether this request should write its payload lines.
+     */
+    public boolean sampled() {
+        return mode == Mode.FULL || sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    public Object summary(Collection<?> items) {
+        return mode == Mode.FULL || items == null ? items : new CollectionSummary(items, maxItems, maxChars);
+    }
+
+    public Object summary(Object item) {
+        return mode == Mode.FULL || item == null ? item : new ItemSummary(item, maxChars);
+    }
+
+    private static String cap(String rendered, int limit) {
+        return rendered.length() <= limit ? rendered : rendered.substring(0, limit) + "...";
+    }
+
+    private static final class CollectionSummary {
+
+        private final Collection<?> items;
+
+        private final int itemLimit;
+
+        private final int charLimit;
+
+        CollectionSummary(Collection<?> items, int itemLimit, int charLimit) {
+            this.items = items;
+            this.itemLimit = itemLimit;
+            this.charLimit = charLimit;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder rendered = new StringBuilder(Math.min(charLimit, 128) + 16);
+            rendered.append(items.size()).append(" items [");
+            Iterator<?> iterator = items.iterator();
+            for (int i = 0; i < itemLimit && iterator.hasNext() && rendered.length() < charLimit; i++) {
+                if (i > 0) {
+                    rendered.append(", ");
+                }
+                rendered.append(iterator.next());
+            }
+            if (iterator.hasNext()) {
+                rendered.append(", ...");
+            }
+            rendered.append(']');
+            return cap(rendered.toString(), charLimit);
+        }
+    }
+
+    private static final class ItemSummary {
+
+        private final Object item;
+
+        private final int charLimit;
+
+        ItemSummary(Object item, int charLimit) {
+            this.item = item;
+            this.charLimit = charLimit;
+        }
+
+        @Override
+        public String toString() {
+            return cap(String.valueOf(item), charLimit);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.rqchallenge.employee.util;
+
+import com.example.rqchallenge.employee.cache.SnapshotFreshness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+/*
+ * 200 responses tagged with the ETag of the snapshot that answered the request.
+ *
+ * Spring compares a ResponseEntity's ETag with If-None-Match before writing the body, so a matching
+ * request gets a 304 and the body is never serialized. Without a recorded snapshot no ETag is set.
+ */
+public final class SnapshotETags {
+
+    private SnapshotETags() {
+    }
+
+    public static <T> ResponseEntity<T> ok(T body) {
+        SnapshotFreshness freshness = SnapshotFreshness.ofCurrentRequest();
+        return freshness == null ? ResponseEntity.ok(body) : ResponseEntity.ok().eTag(freshness.getETag()).body(body);
+    }
+
+    /*
+     * A JSON body already encoded with the negotiated coding. Each coding is a representation of its own,
+     * so its ETag names the coding and caches are told the body varies with Accept-Encoding.
+     */
+    public static ResponseEntity<byte[]> okEncoded(byte[] body, ContentEncoding encoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+        SnapshotFreshness freshness = SnapshotFreshness.ofCurrentRequest();
+        if (freshness != null) {
+            response.eTag(encoding == ContentEncoding.IDENTITY ? freshness.getETag() : freshness.getETag(encoding.getToken()));
+        }
+        return response.body(body);
+    }
+
+    public static <T> Mono<ResponseEntity<T>> okAsync(T body) {
+        return SnapshotFreshness.ofCurrentContext()
+                .map(freshness -> ResponseEntity.ok().eTag(freshness.getETag()).body(body))
+                .defaultIfEmpty(ResponseEntity.ok(body));
+    }
+}
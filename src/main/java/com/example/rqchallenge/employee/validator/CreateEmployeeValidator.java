@@ -10,11 +10,16 @@ import java.util.Map;
 public class CreateEmployeeValidator {
 
     public static void validate(Map<String,Object> employeeInput) {
-        if(!employeeInput.containsKey("name")
-                || !employeeInput.containsKey("salary")
-                    || !employeeInput.containsKey("age")) {
+        if(!isValid(employeeInput)) {
             log.info("[Validate]: Missing fields , Please check request once.");
             throw new BadRequestException(AppConstants.BAD_INPUT_EXCEPTION_MESSAGE);
         }
     }
+
+    public static boolean isValid(Map<String,Object> employeeInput) {
+        return employeeInput != null
+                && employeeInput.containsKey("name")
+                && employeeInput.containsKey("salary")
+                && employeeInput.containsKey("age");
+    }
 }
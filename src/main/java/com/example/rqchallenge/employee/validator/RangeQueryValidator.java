@@ -0,0 +1,16 @@
+package com.example.rqchallenge.employee.validator;
+
+import com.example.rqchallenge.employee.exception.BadRequestException;
+import com.example.rqchallenge.employee.util.AppConstants;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class RangeQueryValidator {
+
+    public static void validate(int min, int max, int offset, int limit, int maxLimit) {
+        if (min > max || offset < 0 || limit < 1 || limit > maxLimit) {
+            log.info("[Validate]: Invalid range query min {} max {} offset {} limit {}", min, max, offset, limit);
+            throw new BadRequestException(AppConstants.INVALID_RANGE_QUERY_MESSAGE + maxLimit);
+        }
+    }
+}
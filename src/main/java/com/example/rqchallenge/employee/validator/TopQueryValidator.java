@@ -0,0 +1,24 @@
+package com.example.rqchallenge.employee.validator;
+
+import com.example.rqchallenge.employee.exception.BadRequestException;
+import com.example.rqchallenge.employee.util.AppConstants;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class TopQueryValidator {
+
+    public static final String DESCENDING = "desc";
+
+    public static final String ASCENDING = "asc";
+
+    /*
+     * Returns true for the highest earners first, false for the lowest.
+     */
+    public static boolean validate(int k, String order, int maxK) {
+        if (k < 1 || k > maxK || !(DESCENDING.equalsIgnoreCase(order) || ASCENDING.equalsIgnoreCase(order))) {
+            log.info("[Validate]: Invalid top query k {} order {}", k, order);
+            throw new BadRequestException(AppConstants.INVALID_TOP_QUERY_MESSAGE + maxK);
+        }
+        return DESCENDING.equalsIgnoreCase(order);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.exception.ApiResponseJsonParseException;
+import com.example.rqchallenge.employee.util.ChallengeAppTestHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EmployeeListStreamDecoderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void whenBodyArrivesInSmallChunks_thenAllEmployeesAreDecoded() {
+        byte[] body = ChallengeAppTestHelper.getAllEmployeesResponseFromApi().getBytes(StandardCharsets.UTF_8);
+        EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(mapper);
+
+        List<Employee> employees = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += 7) {
+            employees.addAll(decoder.feed(body, offset, Math.min(7, body.length - offset)));
+        }
+        employees.addAll(decoder.endOfInput());
+
+        assertThat(employees).hasSize(24);
+        assertThat(employees.get(0).getEmployeeName()).isEqualTo("Naruto Uzumaki");
+        assertThat(employees.get(0).getEmployeeSalary()).isEqualTo(320800);
+        assertThat(employees.get(23).getId()).isEqualTo(24L);
+    }
+
+    @Test
+    void whenBodyHasNoDataArray_thenThrowsApiResponseJsonParseException() {
+        EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(mapper);
+        decoder.feed("{\"status\":\"success\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ApiResponseJsonParseException.class, decoder::endOfInput);
+    }
+
+    @Test
+    void whenDataIsNull_thenThrowsApiResponseJsonParseException() {
+        EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(mapper);
+
+        assertThrows(ApiResponseJsonParseException.class,
+                () -> decoder.feed("{\"status\":\"success\",\"data\":null}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void whenDataIsOnlyNested_thenThrowsApiResponseJsonParseException() {
+        EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(mapper);
+        decoder.feed("{\"status\":\"success\",\"meta\":{\"data\":[]}}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ApiResponseJsonParseException.class, decoder::endOfInput);
+    }
+
+    @Test
+    void whenBodyIsNotJson_thenThrowsApiResponseJsonParseException() {
+        EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(mapper);
+
+        assertThrows(ApiResponseJsonParseException.class,
+                () -> decoder.feed("<html>Too Many Requests</html>".getBytes(StandardCharsets.UTF_8)));
+    }
+}
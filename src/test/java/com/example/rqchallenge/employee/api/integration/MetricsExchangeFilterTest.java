@@ -0,0 +1,41 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsExchangeFilterTest {
+
+    @Test
+    void whenResponsesArrive_thenTheyAreTimedAndCountedPerClientAndStatusClass() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(
+                        request.url().getPath().endsWith("throttled") ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.OK)
+                        .body("{\"status\":\"success\"}")
+                        .build()))
+                .filter(new MetricsExchangeFilter(meterRegistry))
+                .build();
+
+        webClient.get().uri("http://localhost/ok")
+                .attribute(MetricsExchangeFilter.CLIENT_ATTRIBUTE, "testClient")
+                .retrieve().toBodilessEntity().block();
+        webClient.get().uri("http://localhost/throttled")
+                .attribute(MetricsExchangeFilter.CLIENT_ATTRIBUTE, "testClient")
+                .exchangeToMono(ClientResponse::releaseBody).block();
+
+        assertThat(meterRegistry.get("employee.api.client.responses")
+                .tags("client", "testClient", "status", "2xx").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.api.client.responses")
+                .tags("client", "testClient", "status", "429").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.api.client.exchange")
+                .tags("client", "testClient", "status", "2xx").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.api.client.payload")
+                .tag("client", "testClient").summary().totalAmount()).isEqualTo(40);
+    }
+}
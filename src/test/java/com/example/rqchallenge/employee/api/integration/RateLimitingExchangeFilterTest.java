@@ -0,0 +1,137 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.exception.TooManyRequestException;
+import com.example.rqchallenge.employee.util.ChallengeAppTestHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.MediaType;
+import org.mockserver.verify.VerificationTimes;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+public class RateLimitingExchangeFilterTest {
+
+    private ClientAndServer mockServer;
+
+    private RestApiServiceClient<Optional<Employee>, String> getEmployeeById;
+
+    @BeforeEach
+    public void setupMockServer() {
+        mockServer = ClientAndServer.startClientAndServer(2001);
+        getEmployeeById = new GetEmployeeById();
+        useRateLimiter(new UpstreamRateLimiter(100, 10, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void whenUpstreamThrottlesOnce_thenRetryAfterRetryAfterAndSucceed() {
+        mockServer.when(
+                request().withMethod(HttpMethod.GET.name()).withPath("/api/v1/employee/1"),
+                Times.once()
+        ).respond(
+                response()
+                        .withStatusCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                        .withHeader("Retry-After", "0")
+        );
+        mockServer.when(
+                request().withMethod(HttpMethod.GET.name()).withPath("/api/v1/employee/1")
+        ).respond(
+                response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(ChallengeAppTestHelper.getAllEmployeeByIdFromApi())
+        );
+
+        Optional<Employee> employee = getEmployeeById.execute("1");
+
+        assertThat(employee).isPresent();
+        mockServer.verify(request().withPath("/api/v1/employee/1"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void whenUpstreamKeepsThrottling_thenThrowsTooManyRequestExceptionAfterRetries() {
+        mockServer.when(
+                request().withMethod(HttpMethod.GET.name()).withPath("/api/v1/employee/1")
+        ).respond(
+                response().withStatusCode(HttpStatus.TOO_MANY_REQUESTS.value())
+        );
+
+        Assertions.assertThrows(TooManyRequestException.class, () -> getEmployeeById.execute("1"));
+        mockServer.verify(request().withPath("/api/v1/employee/1"), VerificationTimes.exactly(3));
+    }
+
+    @Test
+    void whenRetryAfterIsLongerThanMaxWait_thenRetryWaitsItOutInsteadOfBeingRejected() {
+        useRateLimiter(new UpstreamRateLimiter(100, 10, Duration.ofMillis(100)), Duration.ofSeconds(2));
+        mockServer.when(
+                request().withMethod(HttpMethod.GET.name()).withPath("/api/v1/employee/1"),
+                Times.once()
+        ).respond(
+                response()
+                        .withStatusCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                        .withHeader("Retry-After", "1")
+        );
+        mockServer.when(
+                request().withMethod(HttpMethod.GET.name()).withPath("/api/v1/employee/1")
+        ).respond(
+                response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(ChallengeAppTestHelper.getAllEmployeeByIdFromApi())
+        );
+
+        long start = System.nanoTime();
+        Optional<Employee> employee = getEmployeeById.execute("1");
+
+        assertThat(employee).isPresent();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+        mockServer.verify(request().withPath("/api/v1/employee/1"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void whenRetryAfterIsLongerThanMaxBackoff_thenThrowsTooManyRequestExceptionWithoutWaiting() {
+        mockServer.when(
+                request().withMethod(HttpMethod.GET.name()).withPath("/api/v1/employee/1")
+        ).respond(
+                response()
+                        .withStatusCode(HttpStatus.TOO_MANY_REQUESTS.value())
+                        .withHeader("Retry-After", "3600")
+        );
+
+        long start = System.nanoTime();
+        Assertions.assertThrows(TooManyRequestException.class, () -> getEmployeeById.execute("1"));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        mockServer.verify(request().withPath("/api/v1/employee/1"), VerificationTimes.exactly(1));
+    }
+
+    private void useRateLimiter(UpstreamRateLimiter rateLimiter) {
+        useRateLimiter(rateLimiter, Duration.ofMillis(100));
+    }
+
+    private void useRateLimiter(UpstreamRateLimiter rateLimiter, Duration maxBackoff) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + mockServer.getLocalPort())
+                .filter(new RateLimitingExchangeFilter(rateLimiter, 2, Duration.ofMillis(10), maxBackoff))
+                .build();
+        ReflectionTestUtils.setField(getEmployeeById, "webClient", webClient);
+    }
+
+    @AfterEach
+    public void tearDownServer() {
+        mockServer.stop();
+    }
+}
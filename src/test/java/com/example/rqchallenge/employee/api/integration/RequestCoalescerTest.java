@@ -0,0 +1,85 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import com.example.rqchallenge.employee.exception.TooManyRequestException;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RequestCoalescerTest {
+
+    private final RequestCoalescer<String, String> requestCoalescer = new RequestCoalescer<>();
+
+    @Test
+    void whenCallsWithSameKeyOverlap_thenUpstreamIsCalledOnce() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        Mono<String> first = requestCoalescer.execute("1", () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        }).cache();
+        Mono<String> second = requestCoalescer.execute("1", () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        }).cache();
+
+        first.subscribe();
+        second.subscribe();
+        upstream.tryEmitValue("Pranam Raghuram");
+
+        assertThat(first.block()).isEqualTo("Pranam Raghuram");
+        assertThat(second.block()).isEqualTo("Pranam Raghuram");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(requestCoalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    void whenCallsWithDifferentKeys_thenEachKeyCallsUpstream() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        requestCoalescer.execute("1", () -> Mono.fromCallable(() -> "one" + upstreamCalls.incrementAndGet())).block();
+        requestCoalescer.execute("2", () -> Mono.fromCallable(() -> "two" + upstreamCalls.incrementAndGet())).block();
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void whenSharedCallFails_thenEveryCallerGetsTheError() {
+        Sinks.One<String> upstream = Sinks.one();
+
+        Mono<String> first = requestCoalescer.execute("1", upstream::asMono).cache();
+        Mono<String> second = requestCoalescer.execute("1", upstream::asMono).cache();
+
+        first.subscribe(value -> {}, error -> {});
+        second.subscribe(value -> {}, error -> {});
+        upstream.tryEmitError(new TooManyRequestException());
+
+        assertThrows(TooManyRequestException.class, first::block);
+        assertThrows(TooManyRequestException.class, second::block);
+    }
+
+    @Test
+    void whenFirstCallerCancels_thenSharedCallCompletesForTheOthers() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Sinks.One<String> upstream = Sinks.one();
+        Supplier<Mono<String>> upstreamCall = () -> upstream.asMono().doOnCancel(() -> upstreamCancelled.set(true));
+
+        Disposable first = requestCoalescer.execute("1", upstreamCall).subscribe();
+        Mono<String> second = requestCoalescer.execute("1", upstreamCall).cache();
+        second.subscribe();
+        first.dispose();
+        upstream.tryEmitValue("Pranam Raghuram");
+
+        assertThat(second.block()).isEqualTo("Pranam Raghuram");
+        assertThat(upstreamCancelled).isFalse();
+        assertThat(requestCoalescer.inFlightCount()).isZero();
+    }
+}
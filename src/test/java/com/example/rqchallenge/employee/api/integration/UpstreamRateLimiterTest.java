@@ -0,0 +1,36 @@
+package com.example.rqchallenge.employee.api.integration;
+
+import com.example.rqchallenge.employee.exception.TooManyRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UpstreamRateLimiterTest {
+
+    @Test
+    void whenBurstIsUsedUp_thenCallersQueueAtThePermitRate() {
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(10, 2, Duration.ofMillis(250));
+        long now = System.nanoTime();
+
+        assertThat(rateLimiter.reserve(now)).isZero();
+        assertThat(rateLimiter.reserve(now)).isZero();
+        assertThat(rateLimiter.reserve(now)).isZero();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(rateLimiter.reserve(now))).isBetween(99L, 100L);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(rateLimiter.reserve(now))).isBetween(199L, 200L);
+        assertThat(rateLimiter.reserve(now)).isEqualTo(-1);
+    }
+
+    @Test
+    void whenPausedLongerThanMaxWait_thenCallersStillQueueWithinMaxWait() {
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(10, 2, Duration.ofMillis(100));
+
+        rateLimiter.pause(Duration.ofSeconds(5));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(rateLimiter.reserve(System.nanoTime()))).isBetween(0L, 100L);
+        assertThrows(TooManyRequestException.class, () -> rateLimiter.acquire().block());
+    }
+}
@@ -41,8 +41,8 @@ public class CreateEmployeeClientTest {
     public void setupMockServer() {
         mockServer = ClientAndServer.startClientAndServer(2001);
         createEmployeeClient = new CreateEmployee();
-        ReflectionTestUtils.setField(createEmployeeClient, "webClientBuilder",
-                WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()));
+        ReflectionTestUtils.setField(createEmployeeClient, "webClient",
+                WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()).build());
     }
 
     @Test
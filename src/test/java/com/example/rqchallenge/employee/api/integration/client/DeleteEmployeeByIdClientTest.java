@@ -37,8 +37,8 @@ public class DeleteEmployeeByIdClientTest {
     public void setupMockServer() {
         mockServer = ClientAndServer.startClientAndServer(2001);
         deleteEmployeeById = new DeleteEmployeeById();
-        ReflectionTestUtils.setField(deleteEmployeeById,"webClientBuilder",
-                WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()));
+        ReflectionTestUtils.setField(deleteEmployeeById,"webClient",
+                WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()).build());
     }
 
     @Test
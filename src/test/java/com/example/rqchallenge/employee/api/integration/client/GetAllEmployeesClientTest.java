@@ -38,8 +38,8 @@ public class GetAllEmployeesClientTest {
     public void setupMockServer() {
         mockServer = ClientAndServer.startClientAndServer(2001);
         getAllEmployees = new GetAllEmployees();
-        ReflectionTestUtils.setField(getAllEmployees,"webClientBuilder",
-                WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()));
+        ReflectionTestUtils.setField(getAllEmployees,"webClient",
+                WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()).build());
     }
 
     @Test
@@ -38,7 +38,7 @@ public class GetEmployeeByIdClientTest {
     public void setupMockServer() {
         mockServer = ClientAndServer.startClientAndServer(2001);
         getEmployeeById = new GetEmployeeById();
-        ReflectionTestUtils.setField(getEmployeeById, "webClientBuilder", WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()));
+        ReflectionTestUtils.setField(getEmployeeById, "webClient", WebClient.builder().baseUrl("http://localhost:" + mockServer.getLocalPort()).build());
     }
 
     @Test
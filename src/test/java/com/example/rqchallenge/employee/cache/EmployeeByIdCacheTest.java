@@ -0,0 +1,61 @@
+package com.example.rqchallenge.employee.cache;
+
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.dto.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class EmployeeByIdCacheTest {
+
+    private RestApiServiceClient<List<Employee>, Void> getAllEmployeesClient;
+
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    private EmployeeByIdCache employeeByIdCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        getAllEmployeesClient = mock(RestApiServiceClient.class);
+        employeeSnapshotCache = newEmployeeSnapshotCache(getAllEmployeesClient);
+        employeeByIdCache = newEmployeeByIdCache(employeeSnapshotCache);
+    }
+
+    @Test
+    void whenEmployeeWasLookedUp_thenItIsServedFromTheCache() {
+        employeeByIdCache.put(pran());
+
+        assertThat(employeeByIdCache.get("1").map(Employee::getId)).contains(1L);
+        assertThat(employeeByIdCache.get("2")).isEmpty();
+        assertThat(employeeByIdCache.get("not-a-number")).isEmpty();
+        assertThat(employeeByIdCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenSnapshotIsLoaded_thenItServesIdLookupsUntilDeleted() {
+        given(getAllEmployeesClient.execute(null)).willReturn(List.of(hemant(), pran()));
+        employeeSnapshotCache.get();
+
+        assertThat(employeeByIdCache.get("1").map(Employee::getId)).contains(1L);
+        assertThat(employeeByIdCache.get("2").map(Employee::getId)).contains(2L);
+
+        employeeSnapshotCache.onEmployeeDeleted(1L);
+        employeeByIdCache.invalidate(1L);
+
+        assertThat(employeeByIdCache.get("1")).isEmpty();
+        assertThat(employeeByIdCache.get("2").map(Employee::getId)).contains(2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeSnapshotCache.shutdown();
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.rqchallenge.employee.cache;
+
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.EmployeePage;
+import com.example.rqchallenge.employee.dto.EmployeeRangePage;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import com.example.rqchallenge.employee.exception.TooManyRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class EmployeeSnapshotCacheTest {
+
+    private RestApiServiceClient<List<Employee>, Void> getAllEmployeesClient;
+
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        getAllEmployeesClient = mock(RestApiServiceClient.class);
+        employeeSnapshotCache = newEmployeeSnapshotCache(getAllEmployeesClient);
+    }
+
+    @Test
+    void whenSnapshotIsFresh_thenUpstreamIsCalledOnce() {
+        given(getAllEmployeesClient.execute(null)).willReturn(List.of(pran(), hemant()));
+
+        employeeSnapshotCache.get();
+        EmployeeSnapshot snapshot = employeeSnapshotCache.get();
+
+        assertThat(snapshot.getEmployees()).hasSize(2);
+        verify(getAllEmployeesClient, times(1)).execute(null);
+    }
+
+    @Test
+    void whenAsyncLoadCompletes_thenTheSnapshotIsCachedAndTakesWrites() {
+        given(getAllEmployeesClient.executeAsync(null)).willReturn(Mono.just(List.of(pran(), hemant())));
+
+        EmployeeSnapshot first = employeeSnapshotCache.getAsync().block();
+        employeeSnapshotCache.onEmployeeDeleted(pran().getId());
+
+        assertThat(employeeSnapshotCache.getAsync().block()).isSameAs(first);
+        assertThat(first.getEmployees()).extracting("id").containsExactly(hemant().getId());
+        verify(getAllEmployeesClient, times(1)).executeAsync(null);
+    }
+
+    @Test
+    void whenSnapshotIsStale_thenServeItAndRefreshInBackground() throws InterruptedException {
+        given(getAllEmployeesClient.execute(null))
+                .willReturn(List.of(pran()))
+                .willReturn(List.of(pran(), hemant()));
+
+        EmployeeSnapshot first = employeeSnapshotCache.get();
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttlMillis", -1L);
+
+        assertThat(employeeSnapshotCache.get()).isSameAs(first);
+
+        verify(getAllEmployeesClient, timeout(1_000).times(2)).execute(null);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttlMillis", 60_000L);
+        for (int attempt = 0; attempt < 100 && employeeSnapshotCache.get() == first; attempt++) {
+            Thread.sleep(10);
+        }
+        assertThat(employeeSnapshotCache.get().getEmployees()).hasSize(2);
+    }
+
+    @Test
+    void whenNoSnapshotAndUpstreamFails_thenThrowsTooManyRequestException() {
+        given(getAllEmployeesClient.execute(null)).willThrow(new TooManyRequestException());
+
+        assertThrows(TooManyRequestException.class, () -> employeeSnapshotCache.get());
+    }
+
+    @Test
+    void whenSnapshotExpiredAndUpstreamFails_thenServeTheExpiredSnapshot() {
+        given(getAllEmployeesClient.execute(null))
+                .willReturn(List.of(pran()))
+                .willThrow(new TooManyRequestException());
+        EmployeeSnapshot first = employeeSnapshotCache.get();
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttlMillis", -1L);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "maxStaleMillis", 0L);
+
+        assertThat(employeeSnapshotCache.get()).isSameAs(first);
+    }
+
+    @Test
+    void whenSnapshotFileExists_thenItIsServedFromDiskUntilRefreshed(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("employees.bin");
+        EmployeeSnapshotFile.write(file, List.of(pran(), hemant()), System.currentTimeMillis());
+        ReflectionTestUtils.setField(employeeSnapshotCache, "snapshotFile", file.toString());
+
+        employeeSnapshotCache.restore();
+        EmployeeSnapshot restored = employeeSnapshotCache.get();
+
+        assertThat(restored.getSource()).isEqualTo(EmployeeSnapshot.Source.DISK);
+        assertThat(restored.getEmployees()).extracting("id").containsExactly(pran().getId(), hemant().getId());
+        verifyNoInteractions(getAllEmployeesClient);
+    }
+
+    @Test
+    void whenSnapshotFileIsOlderThanMaxStale_thenItIsServedWhileRefreshingInBackground(@TempDir Path directory)
+            throws IOException {
+        Path file = directory.resolve("employees.bin");
+        EmployeeSnapshotFile.write(file, List.of(pran()), System.currentTimeMillis() - 3_600_000L);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "snapshotFile", file.toString());
+        given(getAllEmployeesClient.execute(null)).willReturn(List.of(pran(), hemant()));
+
+        employeeSnapshotCache.restore();
+
+        assertThat(employeeSnapshotCache.get().getSource()).isEqualTo(EmployeeSnapshot.Source.DISK);
+        verify(getAllEmployeesClient, timeout(1_000)).execute(null);
+    }
+
+    @Test
+    void whenSnapshotExpiredDuringOutage_thenStreamServesTheExpiredSnapshot() {
+        given(getAllEmployeesClient.execute(null))
+                .willReturn(List.of(pran()))
+                .willThrow(new TooManyRequestException());
+        ReflectionTestUtils.setField(employeeSnapshotCache, "outageRetryMillis", 60_000L);
+        employeeSnapshotCache.get();
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttlMillis", -1L);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "maxStaleMillis", 0L);
+        employeeSnapshotCache.get();
+
+        assertThat(employeeSnapshotCache.stream().collectList().block()).extracting("id").containsExactly(pran().getId());
+        verify(getAllEmployeesClient, never()).executeStream(null);
+    }
+
+    @Test
+    void whenPaging_thenEmployeesComeInIdOrderWithoutDeletedOnes() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(sanjay(), pran(), mangilal(), hemant()),
+                System.currentTimeMillis());
+        snapshot.markDeleted(hemant().getId());
+
+        EmployeePage first = snapshot.page(null, 1);
+        EmployeePage second = snapshot.page(first.getNextCursor(), 5);
+
+        assertThat(first.getEmployees()).extracting("id").containsExactly(pran().getId());
+        assertThat(second.getEmployees()).extracting("id").containsExactly(sanjay().getId(), mangilal().getId());
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void whenEmployeesAreCreated_thenPagingMergesThemInIdOrder() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(sanjay(), pran(), mangilal()), System.currentTimeMillis());
+        Employee newHire = rani();
+        newHire.setId(pran().getId() + 1);
+        Employee lastHire = pranitha();
+        lastHire.setId(Long.MAX_VALUE);
+        snapshot.recordCreated(lastHire);
+        snapshot.recordCreated(newHire);
+
+        EmployeePage first = snapshot.page(null, 2);
+        EmployeePage second = snapshot.page(first.getNextCursor(), 2);
+        EmployeePage third = snapshot.page(second.getNextCursor(), 2);
+
+        assertThat(first.getEmployees()).extracting("id").containsExactly(pran().getId(), newHire.getId());
+        assertThat(second.getEmployees()).extracting("id").containsExactly(sanjay().getId(), mangilal().getId());
+        assertThat(third.getEmployees()).extracting("id").containsExactly(lastHire.getId());
+        assertThat(third.getNextCursor()).isNull();
+        assertThat(snapshot.page(null, 10).getEmployees()).hasSameElementsAs(snapshot.getEmployees());
+    }
+
+    @Test
+    void whenEmployeesAreCreatedAndDeleted_thenListAndSearchReflectThem() {
+        given(getAllEmployeesClient.execute(null)).willReturn(List.of(pran(), hemant(), sanjay()));
+        EmployeeSnapshot snapshot = employeeSnapshotCache.get();
+        List<Employee> loaded = snapshot.getEmployees();
+
+        employeeSnapshotCache.onEmployeeDeleted(pran().getId());
+        employeeSnapshotCache.onEmployeeCreated(pranitha());
+
+        assertThat(snapshot.getEmployees()).isNotSameAs(loaded)
+                .extracting("id").containsExactly(hemant().getId(), sanjay().getId(), pranitha().getId());
+        assertThat(snapshot.getEmployees()).isSameAs(snapshot.getEmployees());
+        assertThat(snapshot.searchByName("pran")).extracting("id").containsExactly(pranitha().getId());
+        assertThat(snapshot.getSalaryAggregate().top(10)).extracting("id")
+                .containsExactlyInAnyOrderElementsOf(snapshot.getEmployees().stream().map(Employee::getId)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void whenSnapshotChanges_thenDataVersionChanges() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(pran(), hemant()), System.currentTimeMillis());
+        EmployeeSnapshot sameData = new EmployeeSnapshot(List.of(pran(), hemant()), System.currentTimeMillis() - 1000);
+        long loadedVersion = snapshot.getDataVersion();
+
+        assertThat(sameData.getDataVersion()).isEqualTo(loadedVersion);
+        assertThat(new EmployeeSnapshot(List.of(hemant(), pran()), System.currentTimeMillis()).getDataVersion())
+                .isNotEqualTo(loadedVersion);
+
+        snapshot.markDeleted(hemant().getId());
+        long deletedVersion = snapshot.getDataVersion();
+        snapshot.markDeleted(hemant().getId());
+        assertThat(deletedVersion).isNotEqualTo(loadedVersion);
+        assertThat(snapshot.getDataVersion()).isEqualTo(deletedVersion);
+
+        snapshot.recordCreated(sanjay());
+        assertThat(snapshot.getDataVersion()).isNotEqualTo(deletedVersion);
+    }
+
+    @Test
+    void whenRangeQuery_thenEmployeesComeInValueOrderWithoutDeletedOnes() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(pran(), hemant(), sanjay(), mangilal(), pranitha(), rani()),
+                System.currentTimeMillis());
+        snapshot.markDeleted(mangilal().getId());
+
+        EmployeeRangePage first = snapshot.salaryRange(100000, 250000, 0, 1);
+        EmployeeRangePage second = snapshot.salaryRange(100000, 250000, first.getNextOffset(), 1);
+        EmployeeRangePage sameAge = snapshot.ageRange(28, 28, 0, 10);
+
+        assertThat(first.getEmployees()).extracting("id").containsExactly(sanjay().getId());
+        assertThat(first.getTotal()).isEqualTo(2);
+        assertThat(second.getEmployees()).extracting("id").containsExactly(hemant().getId());
+        assertThat(second.getNextOffset()).isNull();
+        assertThat(sameAge.getEmployees()).extracting("id").containsExactly(hemant().getId(), rani().getId());
+    }
+
+    @Test
+    void whenEmployeesAreCreatedAndDeleted_thenRangeWindowsAndTotalReflectThem() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(pran(), hemant(), sanjay(), mangilal()),
+                System.currentTimeMillis());
+        Employee newHire = rani();
+        newHire.setId(7L);
+        newHire.setEmployeeSalary(150000);
+        snapshot.recordCreated(newHire);
+        snapshot.markDeleted(mangilal().getId());
+
+        EmployeeRangePage first = snapshot.salaryRange(100000, 250000, 0, 2);
+        EmployeeRangePage second = snapshot.salaryRange(100000, 250000, first.getNextOffset(), 2);
+
+        assertThat(first.getEmployees()).extracting("id").containsExactly(sanjay().getId(), newHire.getId());
+        assertThat(first.getTotal()).isEqualTo(3);
+        assertThat(first.getNextOffset()).isEqualTo(2);
+        assertThat(second.getEmployees()).extracting("id").containsExactly(hemant().getId());
+        assertThat(second.getNextOffset()).isNull();
+        assertThat(snapshot.ageRange(28, 28, 0, 10).getEmployees()).extracting("id")
+                .containsExactly(hemant().getId(), newHire.getId());
+    }
+
+    @Test
+    void whenRangeOffsetIsNearIntegerMax_thenWindowIsEmpty() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(pran(), hemant(), sanjay()), System.currentTimeMillis());
+
+        EmployeeRangePage page = snapshot.salaryRange(1, Integer.MAX_VALUE, Integer.MAX_VALUE, 100);
+
+        assertThat(page.getEmployees()).isEmpty();
+        assertThat(page.getTotal()).isEqualTo(3);
+        assertThat(page.getNextOffset()).isNull();
+    }
+
+    @Test
+    void whenEmployeesCreatedAndDeleted_thenSalaryStatisticsStayCurrent() {
+        given(getAllEmployeesClient.execute(null)).willReturn(List.of(pran(), hemant()));
+        employeeSnapshotCache.get();
+
+        Employee newHire = pranitha();
+        employeeSnapshotCache.onEmployeeCreated(newHire);
+        employeeSnapshotCache.onEmployeeDeleted(pran().getId());
+        employeeSnapshotCache.onEmployeeDeleted(pran().getId());
+        SalaryStatistics statistics = employeeSnapshotCache.get().salaryStatistics();
+
+        assertThat(statistics.getCount()).isEqualTo(2);
+        assertThat(statistics.getMin()).isEqualTo(hemant().getEmployeeSalary());
+        assertThat(statistics.getMax()).isEqualTo(newHire.getEmployeeSalary());
+        assertThat(statistics.getMean()).isEqualTo((hemant().getEmployeeSalary() + newHire.getEmployeeSalary()) / 2.0);
+    }
+
+    @Test
+    void whenNoSnapshot_thenStreamDecodesStraightFromTheUpstream() {
+        given(getAllEmployeesClient.executeStream(null)).willReturn(Flux.just(List.of(pran()), List.of(hemant())));
+
+        assertThat(employeeSnapshotCache.stream().collectList().block()).extracting("id")
+                .containsExactly(pran().getId(), hemant().getId());
+    }
+
+    @Test
+    void whenConcurrentStreamsWithoutSnapshot_thenOneUpstreamStreamIsSharedAndBecomesTheSnapshot()
+            throws InterruptedException {
+        given(getAllEmployeesClient.executeStream(null)).willReturn(
+                Flux.just(List.of(pran()), List.of(hemant())).delaySubscription(Duration.ofMillis(100)));
+
+        Flux<Employee> first = employeeSnapshotCache.stream();
+        Flux<Employee> second = employeeSnapshotCache.stream();
+
+        assertThat(Flux.merge(first, second).collectList().block()).hasSize(4);
+        verify(getAllEmployeesClient, times(1)).executeStream(null);
+
+        for (int attempt = 0; attempt < 100 && employeeSnapshotCache.peek().isEmpty(); attempt++) {
+            Thread.sleep(10);
+        }
+        assertThat(employeeSnapshotCache.get().getEmployees()).extracting("id")
+                .containsExactly(pran().getId(), hemant().getId());
+        verify(getAllEmployeesClient, never()).execute(null);
+    }
+
+    @Test
+    void whenEmployeeDeleted_thenStreamSkipsIt() {
+        given(getAllEmployeesClient.execute(null)).willReturn(List.of(pran(), hemant()));
+        employeeSnapshotCache.get();
+
+        employeeSnapshotCache.onEmployeeDeleted(pran().getId());
+
+        assertThat(employeeSnapshotCache.stream().collectList().block()).extracting("id").containsExactly(hemant().getId());
+        verify(getAllEmployeesClient, never()).executeStream(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeSnapshotCache.shutdown();
+    }
+}
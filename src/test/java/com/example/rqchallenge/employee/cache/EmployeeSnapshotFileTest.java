@@ -0,0 +1,44 @@
+package com.example.rqchallenge.employee.cache;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EmployeeSnapshotFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void whenWrittenAndRead_thenEmployeesAndLoadTimeRoundTrip() throws IOException {
+        Employee partial = hemant();
+        partial.setEmployeeAge(null);
+        partial.setEmployeeName("Hémant Bhat");
+        Employee withImage = pran();
+        withImage.setProfileImage("https://images.example.com/pran.png");
+        Path file = directory.resolve("employees.bin");
+
+        EmployeeSnapshotFile.write(file, List.of(withImage, partial), 1234L);
+        EmployeeSnapshot snapshot = EmployeeSnapshotFile.read(file);
+
+        assertThat(snapshot.getSource()).isEqualTo(EmployeeSnapshot.Source.DISK);
+        assertThat(snapshot.getLoadedAtMillis()).isEqualTo(1234L);
+        assertThat(snapshot.getEmployees()).usingRecursiveFieldByFieldElementComparator().containsExactly(withImage, partial);
+    }
+
+    @Test
+    void whenFileIsNotASnapshot_thenReadFails() throws IOException {
+        Path file = Files.write(directory.resolve("employees.bin"), new byte[]{1, 2, 3, 4, 5, 6});
+
+        assertThrows(IOException.class, () -> EmployeeSnapshotFile.read(file));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.rqchallenge.employee.codec;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EmployeeBinaryCodecTest {
+
+    @Test
+    void whenEncodedAndDecoded_thenEmployeesRoundTrip() throws IOException {
+        Employee withImage = pran();
+        withImage.setProfileImage("https://images.example.com/pran.png");
+        Employee unicode = hemant();
+        unicode.setEmployeeName("Hémant 日本");
+        Employee sparse = new Employee();
+        sparse.setId(Long.MAX_VALUE);
+        sparse.setEmployeeSalary(-1);
+        List<Employee> employees = List.of(withImage, unicode, sparse);
+
+        byte[] encoded = EmployeeBinaryCodec.encode(employees);
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        EmployeeBinaryCodec.encode(employees, streamed);
+
+        assertThat(streamed.toByteArray()).isEqualTo(encoded);
+        assertThat(EmployeeBinaryCodec.decode(encoded)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(withImage, unicode, sparse);
+    }
+
+    @Test
+    void whenTruncated_thenDecodeFails() {
+        byte[] encoded = EmployeeBinaryCodec.encode(List.of(pran(), hemant()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> EmployeeBinaryCodec.decode(Arrays.copyOf(encoded, encoded.length - 3)));
+    }
+
+    @Test
+    void whenCountExceedsTheInput_thenDecodeFailsWithoutAllocatingIt() {
+        byte[] countOfIntegerMax = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0};
+
+        assertThrows(IllegalArgumentException.class, () -> EmployeeBinaryCodec.decode(countOfIntegerMax));
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.rqchallenge.employee.controller;
 
+import com.example.rqchallenge.employee.cache.EmployeeSnapshot;
+import com.example.rqchallenge.employee.cache.SnapshotFreshness;
 import com.example.rqchallenge.employee.dto.Employee;
 import com.example.rqchallenge.employee.exception.*;
 import com.example.rqchallenge.employee.exception.handler.ApiExceptionHandler;
 import com.example.rqchallenge.employee.service.IEmployeeService;
 import com.example.rqchallenge.employee.util.ChallengeAppTestConstants;
 import com.example.rqchallenge.employee.util.ChallengeAppTestHelper;
+import com.example.rqchallenge.employee.util.HotPathLog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.jupiter.api.Test;
@@ -13,28 +16,40 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
 import static org.hamcrest.CoreMatchers.is;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(controllers = IEmployeeController.class)
+@Import(HotPathLog.class)
 public class EmployeeControllerTest {
 
     @Autowired
@@ -75,6 +90,87 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].employee_age", is(pran.getEmployeeAge())));;
     }
 
+    @Test
+    void whenGetAllEmployees_thenBodyIsEncodedAsNegotiatedWithAnETagPerCoding() throws Exception {
+        SnapshotFreshness freshness = givenSnapshotAnswersGetAllEmployees(List.of(pran(), hemant()));
+
+        MvcResult identity = mockMvc.perform(get("/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, freshness.getETag()))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andReturn();
+        byte[] json = identity.getResponse().getContentAsByteArray();
+
+        MvcResult gzip = mockMvc.perform(get("/employee").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, freshness.getETag("gzip")))
+                .andReturn();
+        MvcResult deflate = mockMvc.perform(get("/employee").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "deflate"))
+                .andExpect(header().string(HttpHeaders.ETAG, freshness.getETag("deflate")))
+                .andReturn();
+
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(gzip.getResponse().getContentAsByteArray())).readAllBytes())
+                .isEqualTo(json);
+        assertThat(new InflaterInputStream(new ByteArrayInputStream(deflate.getResponse().getContentAsByteArray())).readAllBytes())
+                .isEqualTo(json);
+    }
+
+    @Test
+    void whenGetAllEmployees_IfNoneMatchesCurrentETag_thenNotModified() throws Exception {
+        SnapshotFreshness freshness = givenSnapshotAnswersGetAllEmployees(List.of(pran(), hemant()));
+
+        mockMvc.perform(get("/employee").header(HttpHeaders.IF_NONE_MATCH, freshness.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/employee")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, freshness.getETag("gzip")))
+                .andExpect(status().isNotModified());
+        // A tag of another coding is not a match for this representation
+        mockMvc.perform(get("/employee")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, freshness.getETag()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void whenGetHighestSalary_IfNoneMatchesCurrentETag_thenNotModified() throws Exception {
+        SnapshotFreshness freshness = new SnapshotFreshness(EmployeeSnapshot.Source.UPSTREAM, 0, false, 42L);
+        given(employeeService.getHighestSalaryOfEmployees()).willAnswer(invocation -> {
+            recordFreshness(freshness);
+            return pran().getEmployeeSalary();
+        });
+
+        mockMvc.perform(get("/employee/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, freshness.getETag()));
+        mockMvc.perform(get("/employee/highestSalary").header(HttpHeaders.IF_NONE_MATCH, freshness.getETag()))
+                .andExpect(status().isNotModified());
+    }
+
+    /*
+     * The service answers from a snapshot, so the request carries its freshness as the snapshot cache would record it
+     */
+    private SnapshotFreshness givenSnapshotAnswersGetAllEmployees(List<Employee> employees) {
+        SnapshotFreshness freshness = new SnapshotFreshness(EmployeeSnapshot.Source.UPSTREAM, 0, false, 42L);
+        given(employeeService.getAllEmployees()).willAnswer(invocation -> {
+            recordFreshness(freshness);
+            return employees;
+        });
+        return freshness;
+    }
+
+    private static void recordFreshness(SnapshotFreshness freshness) {
+        RequestContextHolder.currentRequestAttributes()
+                .setAttribute(SnapshotFreshness.CONTEXT_KEY, freshness, RequestAttributes.SCOPE_REQUEST);
+    }
+
     @Test
     void whenGetAllEmployees_throwsTooManyRequestException() throws Exception {
         given(employeeService.getAllEmployees()).willThrow(new TooManyRequestException());
@@ -0,0 +1,42 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeColumnsTest {
+
+    @Test
+    void whenBuilt_thenColumnsMatchEmployeesPositionForPosition() {
+        Employee pran = pran();
+        Employee hemant = hemant();
+        hemant.setEmployeeAge(null);
+        EmployeeColumns columns = new EmployeeColumns(List.of(pran, hemant));
+
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.id(0)).isEqualTo(pran.getId());
+        assertThat(columns.salary(1)).isEqualTo(hemant.getEmployeeSalary());
+        assertThat(columns.hasAge(0)).isTrue();
+        assertThat(columns.hasAge(1)).isFalse();
+        assertThat(columns.employee(1)).isSameAs(hemant);
+    }
+
+    @Test
+    void whenNamesRepeat_thenTheyShareOneDictionaryCode() {
+        Employee pran = pran();
+        Employee namesake = hemant();
+        namesake.setEmployeeName(pran.getEmployeeName());
+        Employee unnamed = rani();
+        unnamed.setEmployeeName(null);
+        EmployeeColumns columns = new EmployeeColumns(List.of(pran, namesake, unnamed));
+
+        assertThat(columns.distinctNames()).isEqualTo(1);
+        assertThat(columns.nameCode(1)).isEqualTo(columns.nameCode(0));
+        assertThat(columns.nameCode(2)).isEqualTo(EmployeeColumns.NO_NAME);
+        assertThat(new EmployeeNameIndex(columns).search(pran.getEmployeeName())).containsExactly(pran, namesake);
+    }
+}
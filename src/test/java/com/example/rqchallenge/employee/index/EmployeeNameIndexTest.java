@@ -0,0 +1,54 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.util.ChallengeAppTestHelper;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeNameIndexTest {
+
+    @Test
+    void whenSearchByTrigramQuery_thenReturnMatchingEmployeesInListOrder() {
+        Employee pran = pran();
+        Employee pranitha = pranitha();
+        EmployeeNameIndex nameIndex = new EmployeeNameIndex(List.of(pran, hemant(), pranitha, rani()));
+
+        assertThat(nameIndex.search("PRAN")).containsExactly(pran, pranitha);
+        assertThat(nameIndex.search("itha nay")).containsExactly(pranitha);
+        assertThat(nameIndex.search("xyz")).isEmpty();
+    }
+
+    @Test
+    void whenSearchByShortOrEmptyQuery_thenFallBackToScan() {
+        Employee pran = pran();
+        Employee hemant = hemant();
+        EmployeeNameIndex nameIndex = new EmployeeNameIndex(List.of(pran, hemant));
+
+        assertThat(nameIndex.search("ra")).containsExactly(pran);
+        assertThat(nameIndex.search("")).containsExactly(pran, hemant);
+        assertThat(nameIndex.search(null)).isEmpty();
+    }
+
+    @Test
+    void whenSearch_thenMatchesContainsIgnoreCase() {
+        List<Employee> employees = new ArrayList<>(ChallengeAppTestHelper.getAllEmployees());
+        Employee unnamed = new Employee();
+        unnamed.setId(99L);
+        employees.add(unnamed);
+        EmployeeNameIndex nameIndex = new EmployeeNameIndex(employees);
+
+        for (String searchString : List.of("a", "AN", "ary", "swift", "Harry Potter", "r p", "zzz")) {
+            List<Employee> expected = employees.stream()
+                    .filter(employee -> StringUtils.containsIgnoreCase(employee.getEmployeeName(), searchString))
+                    .collect(Collectors.toList());
+            assertThat(nameIndex.search(searchString)).containsExactlyElementsOf(expected);
+        }
+    }
+}
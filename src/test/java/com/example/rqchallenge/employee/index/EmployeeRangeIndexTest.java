@@ -0,0 +1,30 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeRangeIndexTest {
+
+    @Test
+    void whenBuilt_thenRangeBoundsAreFoundByBinarySearch() {
+        Employee pran = pran();
+        Employee hemant = hemant();
+        Employee rani = rani();
+        Employee noAge = sanjay();
+        noAge.setEmployeeAge(null);
+        EmployeeRangeIndex ageIndex = EmployeeRangeIndex.byAge(new EmployeeColumns(List.of(pran, hemant, noAge, rani)));
+
+        assertThat(ageIndex.size()).isEqualTo(3);
+        assertThat(ageIndex.firstRankAtLeast(28)).isEqualTo(0);
+        assertThat(ageIndex.firstRankAbove(28)).isEqualTo(2);
+        assertThat(ageIndex.firstRankAtLeast(33)).isEqualTo(3);
+        assertThat(ageIndex.atRank(0)).isSameAs(hemant);
+        assertThat(ageIndex.atRank(1)).isSameAs(rani);
+        assertThat(ageIndex.atRank(2)).isSameAs(pran);
+    }
+}
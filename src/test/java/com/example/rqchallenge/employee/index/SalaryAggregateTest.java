@@ -0,0 +1,101 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SalaryAggregateTest {
+
+    @Test
+    void whenBuilt_thenTopIsOrderedBySalaryDescending() {
+        Employee pran = pran();
+        Employee hemant = hemant();
+        Employee mangilal = mangilal();
+        Employee pranitha = pranitha();
+        SalaryAggregate salaryAggregate = new SalaryAggregate(List.of(pran, hemant, mangilal, pranitha));
+
+        assertThat(salaryAggregate.highestSalary()).isEqualTo(pranitha.getEmployeeSalary());
+        assertThat(salaryAggregate.top(3)).containsExactly(pranitha, mangilal, hemant);
+        assertThat(salaryAggregate.top(10)).hasSize(4);
+    }
+
+    @Test
+    void whenEmployeeCreatedAndDeleted_thenAggregateIsUpdatedInPlace() {
+        Employee pran = pran();
+        Employee hemant = hemant();
+        Employee pranitha = pranitha();
+        SalaryAggregate salaryAggregate = new SalaryAggregate(List.of(pran, hemant, pranitha));
+
+        Employee newHire = rani();
+        newHire.setId(7L);
+        newHire.setEmployeeSalary(400000);
+        salaryAggregate.add(newHire);
+
+        assertThat(salaryAggregate.highestSalary()).isEqualTo(400000);
+        assertThat(salaryAggregate.top(2)).containsExactly(newHire, pranitha);
+
+        salaryAggregate.remove(newHire.getId());
+        salaryAggregate.remove(pranitha.getId());
+
+        assertThat(salaryAggregate.highestSalary()).isEqualTo(hemant.getEmployeeSalary());
+        assertThat(salaryAggregate.top(10)).containsExactly(hemant, pran);
+    }
+
+    @Test
+    void whenBottom_thenLowestSalaryFirstWithTiesInListOrder() {
+        Employee pran = pran();
+        Employee hemant = hemant();
+        Employee rani = rani();
+        Employee sameAsRani = sanjay();
+        sameAsRani.setEmployeeSalary(rani.getEmployeeSalary());
+        SalaryAggregate salaryAggregate = new SalaryAggregate(List.of(pran, rani, hemant, sameAsRani));
+
+        Employee newHire = mangilal();
+        newHire.setId(7L);
+        newHire.setEmployeeSalary(rani.getEmployeeSalary());
+        salaryAggregate.add(newHire);
+
+        assertThat(salaryAggregate.bottom(4)).containsExactly(pran, rani, sameAsRani, newHire);
+        assertThat(salaryAggregate.top(2)).containsExactly(hemant, rani);
+    }
+
+    @Test
+    void whenManyEmployeesShareTheLowestSalary_thenBottomTakesTheFrontOfTheRun() {
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            Employee employee = pran();
+            employee.setId(id);
+            employee.setEmployeeSalary(id % 10 == 0 ? 2000 : 1000);
+            employees.add(employee);
+        }
+        SalaryAggregate salaryAggregate = new SalaryAggregate(employees);
+        for (long id = 101; id <= 103; id++) {
+            Employee newHire = rani();
+            newHire.setId(id + 100_000);
+            newHire.setEmployeeSalary(1000);
+            salaryAggregate.add(newHire);
+        }
+
+        assertThat(salaryAggregate.bottom(3)).extracting(Employee::getId).containsExactly(1L, 2L, 3L);
+
+        salaryAggregate.remove(2L);
+
+        assertThat(salaryAggregate.bottom(3)).extracting(Employee::getId).containsExactly(1L, 3L, 4L);
+        assertThat(salaryAggregate.bottom(90_002)).extracting(Employee::getId)
+                .endsWith(99_999L, 100_101L, 100_102L, 100_103L);
+        assertThat(salaryAggregate.bottom(90_003).get(90_002).getEmployeeSalary()).isEqualTo(2000);
+    }
+
+    @Test
+    void whenEmpty_thenHighestSalaryIsMinValue() {
+        SalaryAggregate salaryAggregate = new SalaryAggregate(List.of());
+
+        assertThat(salaryAggregate.highestSalary()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(salaryAggregate.top(10)).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.rqchallenge.employee.index;
+
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.SalaryStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class SalaryStatsTest {
+
+    @Test
+    void whenBuilt_thenPercentilesAreWithinTheRelativeAccuracy() {
+        List<Employee> employees = new ArrayList<>();
+        for (int salary = 1000; salary <= 100_000; salary += 1000) {
+            Employee employee = pran();
+            employee.setEmployeeSalary(salary);
+            employees.add(employee);
+        }
+        SalaryStatistics statistics = new SalaryStats(new EmployeeColumns(employees)).statistics(1000, 100_000);
+
+        assertThat(statistics.getCount()).isEqualTo(100);
+        assertThat(statistics.getMean()).isEqualTo(50_500.0);
+        assertThat((double) statistics.getMedian()).isCloseTo(50_000, within(50_000 * SalaryStats.RELATIVE_ACCURACY));
+        assertThat((double) statistics.getP90()).isCloseTo(90_000, within(90_000 * SalaryStats.RELATIVE_ACCURACY));
+        assertThat((double) statistics.getP99()).isCloseTo(99_000, within(99_000 * SalaryStats.RELATIVE_ACCURACY));
+        assertThat(statistics.getHistogram()).extracting("count").containsExactly(24L, 25L, 25L, 25L, 1L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    @Test
+    void whenSalariesRemovedAndMerged_thenCountsFollow() {
+        SalaryStats salaryStats = new SalaryStats(new EmployeeColumns(List.of(pran(), hemant())));
+        SalaryStats other = new SalaryStats(new EmployeeColumns(List.of(pranitha())));
+
+        salaryStats.remove(hemant().getEmployeeSalary());
+        salaryStats.merge(other);
+        SalaryStatistics statistics = salaryStats.statistics(pran().getEmployeeSalary(), pranitha().getEmployeeSalary());
+
+        assertThat(statistics.getCount()).isEqualTo(2);
+        assertThat(statistics.getMean()).isEqualTo((pran().getEmployeeSalary() + pranitha().getEmployeeSalary()) / 2.0);
+    }
+
+    @Test
+    void whenEmpty_thenOnlyTheCountAndHistogramAreSet() {
+        SalaryStatistics statistics = new SalaryStats(new EmployeeColumns(List.of())).statistics(null, null);
+
+        assertThat(statistics.getCount()).isZero();
+        assertThat(statistics.getMedian()).isNull();
+        assertThat(statistics.getHistogram()).extracting("count").containsOnly(0L);
+    }
+}
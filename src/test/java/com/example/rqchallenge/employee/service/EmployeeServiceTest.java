@@ -1,25 +1,37 @@
 package com.example.rqchallenge.employee.service;
 
 import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.BatchCreateResult;
+import com.example.rqchallenge.employee.dto.BatchDeleteResult;
 import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.dto.MultiGetResult;
 import com.example.rqchallenge.employee.exception.*;
 import com.example.rqchallenge.employee.service.impl.EmployeeService;
 import com.example.rqchallenge.employee.util.ChallengeAppTestConstants;
 import com.example.rqchallenge.employee.util.ChallengeAppTestHelper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 
 import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -41,6 +53,18 @@ public class EmployeeServiceTest {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Autowired
+    private EmployeeByIdCache employeeByIdCache;
+
+    @BeforeEach
+    void resetSnapshot() {
+        employeeSnapshotCache.invalidate();
+        employeeByIdCache.invalidateAll();
+    }
+
     @Test
     void givenEmployeeList_whenGetAllEmployees_thenListOfEmployeeShouldBeReturned() {
 
@@ -214,6 +238,24 @@ public class EmployeeServiceTest {
         assertThrows(ApiResponseJsonParseException.class, () -> employeeService.getTop10HighestEarningEmployeeNames());
     }
 
+    @Test
+    void whenGetTopEarningEmployees_IfLowestFirstWithFields_thenReturnProjectedEmployees() {
+        given(getAllEmployeesService.execute(null)).willReturn(List.of(pran(), hemant(), sanjay(), rani()));
+
+        List<Map<String, Object>> lowestEarners = employeeService.getTopEarningEmployees(2, "asc", List.of("id", "employee_salary"));
+
+        assertThat(lowestEarners).containsExactly(
+                Map.of("id", pran().getId(), "employee_salary", pran().getEmployeeSalary()),
+                Map.of("id", rani().getId(), "employee_salary", rani().getEmployeeSalary()));
+    }
+
+    @Test
+    void whenGetTopEarningEmployees_IfUnknownField_thenThrowsBadRequestException() {
+        assertThrows(BadRequestException.class,
+                () -> employeeService.getTopEarningEmployees(10, "desc", List.of("employee_bonus")));
+        verify(getAllEmployeesService, never()).execute(null);
+    }
+
     @Test
     void whenCreateEmployee_IfSuccess_thenReturnCreatedEmployee() {
         Map<String, Object> input = new HashMap<>();
@@ -314,4 +356,156 @@ public class EmployeeServiceTest {
 
         assertThrows(ApiResponseJsonParseException.class, () -> employeeService.deleteEmployee(empId));
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenDeleteEmployee_IfEmployeeIsKnownLocally_thenOnlyDeleteIsCalledUpstream() {
+        Employee pran = pran();
+        final String empId = pran.getId().toString();
+        given(getAllEmployeesService.execute(null)).willReturn(List.of(pran, hemant()));
+        given(deleteEmployeeService.execute(empId)).willReturn("success");
+        employeeService.getAllEmployees();
+
+        assertThat(employeeService.deleteEmployee(empId)).isEqualTo(pran.getEmployeeName());
+        verify(getEmployeeByIdService, never()).execute(empId);
+    }
+
+    @Test
+    void whenDeleteEmployee_IfEmployeeNotFound_thenThrowsEmployeeNotFoundException() {
+        final String empId = "1090";
+        given(getEmployeeByIdService.execute(empId)).willReturn(Optional.empty());
+        given(deleteEmployeeService.execute(empId)).willReturn("success");
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee(empId));
+        verify(deleteEmployeeService, never()).execute(empId);
+    }
+
+    @Test
+    void whenDeleteEmployee_IfLookupFails_thenNoDeleteIsSent() {
+        final String empId = "1090";
+        given(getEmployeeByIdService.execute(empId)).willThrow(new TooManyRequestException());
+
+        assertThrows(TooManyRequestException.class, () -> employeeService.deleteEmployee(empId));
+        verify(deleteEmployeeService, never()).execute(empId);
+    }
+
+    @Test
+    void whenCreateEmployees_thenEveryRecordGetsAResultInRequestOrder() {
+        Map<String, Object> first = Map.of("name", "Pranam Raghuram", "age", 32, "salary", 30000);
+        Map<String, Object> second = Map.of("name", "Hemant Bhat", "age", 28, "salary", 190000);
+        given(createEmployeeApiService.executeAsync(first)).willReturn(Mono.just(pran()));
+        given(createEmployeeApiService.executeAsync(second)).willReturn(Mono.error(new TooManyRequestException()));
+
+        List<BatchCreateResult> results = employeeService.createEmployees(List.of(first, second));
+
+        assertThat(results).extracting("index").containsExactly(0, 1);
+        assertThat(results).extracting("status").containsExactly(201, 429);
+        assertThat(results.get(0).getEmployee().getId()).isEqualTo(pran().getId());
+    }
+
+    @Test
+    void whenCreateEmployees_IfAnyRecordIsInvalid_thenNothingIsSentUpstream() {
+        Map<String, Object> valid = Map.of("name", "Pranam Raghuram", "age", 32, "salary", 30000);
+        Map<String, Object> invalid = Map.of("name", "Hemant Bhat");
+
+        assertThrows(BadRequestException.class, () -> employeeService.createEmployees(List.of(valid, invalid)));
+        verify(createEmployeeApiService, never()).executeAsync(any());
+    }
+
+    @Test
+    void whenDeleteEmployees_thenIdsAreDeduplicatedAndNamesResolvedFromOneListFetch() {
+        given(getAllEmployeesService.executeAsync(null)).willReturn(Mono.just(List.of(pran(), hemant())));
+        given(getEmployeeByIdService.executeAsync("1090")).willReturn(Mono.just(Optional.empty()));
+        given(deleteEmployeeService.executeAsync("1")).willReturn(Mono.just("success"));
+        given(deleteEmployeeService.executeAsync("2")).willReturn(Mono.error(new TooManyRequestException()));
+
+        List<BatchDeleteResult> results = employeeService.deleteEmployees(List.of("1", "1", "2", "1090"));
+
+        assertThat(results).extracting("id").containsExactly("1", "2", "1090");
+        assertThat(results).extracting("status").containsExactly(200, 429, 404);
+        assertThat(results.get(0).getEmployeeName()).isEqualTo(pran().getEmployeeName());
+        verify(deleteEmployeeService, times(1)).executeAsync("1");
+        verify(deleteEmployeeService, never()).executeAsync("1090");
+        verify(getEmployeeByIdService, never()).executeAsync("1");
+        verify(getEmployeeByIdService, never()).executeAsync("2");
+    }
+
+    @Test
+    void whenDeleteEmployees_IfIdIsNotInTheSnapshot_thenItIsLookedUpAndDeleted() {
+        given(getAllEmployeesService.executeAsync(null)).willReturn(Mono.just(List.of(pran())));
+        given(getEmployeeByIdService.executeAsync("2")).willReturn(Mono.just(Optional.of(hemant())));
+        given(deleteEmployeeService.executeAsync("2")).willReturn(Mono.just("success"));
+
+        List<BatchDeleteResult> results = employeeService.deleteEmployees(List.of("2"));
+
+        assertThat(results).extracting("status").containsExactly(200);
+        assertThat(results.get(0).getEmployeeName()).isEqualTo(hemant().getEmployeeName());
+        verify(deleteEmployeeService, times(1)).executeAsync("2");
+    }
+
+    @Test
+    void whenGetEmployeesByIds_IfFewIds_thenTheyAreFetchedById() {
+        given(getEmployeeByIdService.executeAsync("1")).willReturn(Mono.just(Optional.of(pran())));
+        given(getEmployeeByIdService.executeAsync("1090")).willReturn(Mono.just(Optional.empty()));
+
+        MultiGetResult result = employeeService.getEmployeesByIds(List.of("1090", "1", "1"));
+
+        assertThat(result.getFound()).extracting("id").containsExactly(pran().getId());
+        assertThat(result.getMissing()).containsExactly("1090");
+        verify(getAllEmployeesService, never()).executeAsync(any());
+    }
+
+    @Test
+    void whenGetEmployeesByIds_IfManyIds_thenOneEmployeeListFetchIsUsed() {
+        List<Employee> allEmployees = ChallengeAppTestHelper.getAllEmployees();
+        given(getAllEmployeesService.executeAsync(null)).willReturn(Mono.just(allEmployees));
+        List<String> ids = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            ids.add(Long.toString(id));
+        }
+
+        MultiGetResult result = employeeService.getEmployeesByIds(ids);
+
+        assertThat(result.getFound().size() + result.getMissing().size()).isEqualTo(20);
+        verify(getEmployeeByIdService, never()).executeAsync(any());
+    }
+
+    @Test
+    void whenGetEmployeesByIds_IfManyIdsAndSomeNotInSnapshot_thenTheyAreLookedUpById() {
+        given(getAllEmployeesService.executeAsync(null))
+                .willReturn(Mono.just(List.of(pran(), hemant(), sanjay(), mangilal(), pranitha(), rani())));
+        Employee created = new Employee();
+        created.setId(7L);
+        created.setEmployeeName("Created Since");
+        given(getEmployeeByIdService.executeAsync(any())).willReturn(Mono.just(Optional.empty()));
+        given(getEmployeeByIdService.executeAsync("7")).willReturn(Mono.just(Optional.of(created)));
+        given(getEmployeeByIdService.executeAsync("8")).willReturn(Mono.error(new TooManyRequestException()));
+        List<String> ids = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            ids.add(Long.toString(id));
+        }
+
+        MultiGetResult result = employeeService.getEmployeesByIds(ids);
+
+        assertThat(result.getFound()).extracting("id").containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(result.getMissing()).containsExactly("9", "10", "11", "12");
+        assertThat(result.getFailed()).extracting("id", "status").containsExactly(tuple("8", 429));
+        verify(getEmployeeByIdService, never()).executeAsync("1");
+    }
+
+    @Test
+    void whenGetEmployeesByIds_IfSnapshotLoadFails_thenUnresolvedIdsAreReportedAsFailed() {
+        given(getAllEmployeesService.executeAsync(null)).willReturn(Mono.error(new TooManyRequestException()));
+        employeeByIdCache.put(pran());
+        List<String> ids = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            ids.add(Long.toString(id));
+        }
+
+        MultiGetResult result = employeeService.getEmployeesByIds(ids);
+
+        assertThat(result.getFound()).extracting("id").containsExactly(pran().getId());
+        assertThat(result.getMissing()).isEmpty();
+        assertThat(result.getFailed()).hasSize(11).allMatch(failure -> failure.getStatus() == 429);
+        verify(getEmployeeByIdService, never()).executeAsync(any());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.rqchallenge.employee.service;
+
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
+import com.example.rqchallenge.employee.dto.Employee;
+import com.example.rqchallenge.employee.exception.BadRequestException;
+import com.example.rqchallenge.employee.exception.EmployeeNotFoundException;
+import com.example.rqchallenge.employee.exception.TooManyRequestException;
+import com.example.rqchallenge.employee.service.impl.ReactiveEmployeeService;
+import com.example.rqchallenge.employee.util.HotPathLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.example.rqchallenge.employee.util.ChallengeAppTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ReactiveEmployeeServiceTest {
+
+    private RestApiServiceClient<List<Employee>, Void> getAllEmployeesClient;
+
+    private RestApiServiceClient<Optional<Employee>, String> getEmployeeByIdClient;
+
+    private RestApiServiceClient<String, String> deleteEmployeeByIdClient;
+
+    private RestApiServiceClient<Employee, Map<String, Object>> createEmployeeClient;
+
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        getAllEmployeesClient = mock(RestApiServiceClient.class);
+        getEmployeeByIdClient = mock(RestApiServiceClient.class);
+        deleteEmployeeByIdClient = mock(RestApiServiceClient.class);
+        createEmployeeClient = mock(RestApiServiceClient.class);
+
+        employeeSnapshotCache = newEmployeeSnapshotCache(getAllEmployeesClient);
+        EmployeeByIdCache employeeByIdCache = newEmployeeByIdCache(employeeSnapshotCache);
+
+        employeeService = new ReactiveEmployeeService();
+        ReflectionTestUtils.setField(employeeService, "employeeSnapshotCache", employeeSnapshotCache);
+        ReflectionTestUtils.setField(employeeService, "employeeByIdCache", employeeByIdCache);
+        ReflectionTestUtils.setField(employeeService, "getEmployeeByIdClient", getEmployeeByIdClient);
+        ReflectionTestUtils.setField(employeeService, "deleteEmployeeByIdClient", deleteEmployeeByIdClient);
+        ReflectionTestUtils.setField(employeeService, "createEmployeeClient", createEmployeeClient);
+        ReflectionTestUtils.setField(employeeService, "hotPathLog", new HotPathLog(HotPathLog.Mode.SUMMARY, 100, 5, 512));
+    }
+
+    @Test
+    void whenGetEmployeesByNameSearch_returnMatchingEmployees() {
+        Employee pran = pran();
+        Employee pranitha = pranitha();
+        given(getAllEmployeesClient.executeAsync(null)).willReturn(Mono.just(List.of(pran, hemant(), pranitha)));
+
+        assertThat(employeeService.getEmployeesByNameSearch("pr").collectList().block()).containsExactly(pran, pranitha);
+        assertThat(employeeService.getHighestSalaryOfEmployees().block()).isEqualTo(pranitha.getEmployeeSalary());
+    }
+
+    @Test
+    void whenGetAllEmployees_IfTooManyRequests_thenThrowsTooManyRequestException() {
+        given(getAllEmployeesClient.executeAsync(null)).willReturn(Mono.error(new TooManyRequestException()));
+
+        assertThrows(TooManyRequestException.class, () -> employeeService.getAllEmployees().collectList().block());
+    }
+
+    @Test
+    void whenGetEmployeeById_IfNotPresent_thenThrowsEmployeeNotFoundException() {
+        given(getEmployeeByIdClient.executeAsync("1090")).willReturn(Mono.just(Optional.empty()));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById("1090").block());
+    }
+
+    @Test
+    void whenDeleteEmployee_IfSuccess_thenGetDeletedEmployeeName() {
+        Employee pran = pran();
+        given(getEmployeeByIdClient.executeAsync("1")).willReturn(Mono.just(Optional.of(pran)));
+        given(deleteEmployeeByIdClient.executeAsync("1")).willReturn(Mono.just("success"));
+
+        assertThat(employeeService.deleteEmployee("1").block()).isEqualTo(pran.getEmployeeName());
+    }
+
+    @Test
+    void whenDeleteEmployee_IfEmployeeNotFound_thenNoDeleteIsSent() {
+        given(getEmployeeByIdClient.executeAsync("1090")).willReturn(Mono.just(Optional.empty()));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployee("1090").block());
+        verify(deleteEmployeeByIdClient, never()).executeAsync("1090");
+    }
+
+    @Test
+    void whenCreateEmployee_IfInputIsInvalid_thenThrowBadRequestException() {
+        Map<String, Object> input = new HashMap<>();
+        input.put("name", "Pranam Raghuram");
+        given(createEmployeeClient.executeAsync(input)).willReturn(Mono.just(pran()));
+
+        assertThrows(BadRequestException.class, () -> employeeService.createEmployee(input).block());
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeSnapshotCache.shutdown();
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.rqchallenge.employee.util;
 
+import com.example.rqchallenge.employee.api.integration.RestApiServiceClient;
+import com.example.rqchallenge.employee.cache.EmployeeByIdCache;
+import com.example.rqchallenge.employee.cache.EmployeeSnapshotCache;
 import com.example.rqchallenge.employee.dto.Employee;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
 import java.io.IOException;
@@ -136,4 +141,25 @@ public class ChallengeAppTestHelper {
         requestMap.put("age", 21);
         return objectMapper.writeValueAsString(requestMap);
     }
+
+    /*
+     * Snapshot cache outside a Spring context, with a 60s ttl and max-stale
+     */
+    public static EmployeeSnapshotCache newEmployeeSnapshotCache(RestApiServiceClient<List<Employee>, Void> getAllEmployeesClient) {
+        EmployeeSnapshotCache employeeSnapshotCache = new EmployeeSnapshotCache();
+        ReflectionTestUtils.setField(employeeSnapshotCache, "getAllEmployeesClient", getAllEmployeesClient);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttlMillis", 60_000L);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "maxStaleMillis", 60_000L);
+        return employeeSnapshotCache;
+    }
+
+    public static EmployeeByIdCache newEmployeeByIdCache(EmployeeSnapshotCache employeeSnapshotCache) {
+        EmployeeByIdCache employeeByIdCache = new EmployeeByIdCache();
+        ReflectionTestUtils.setField(employeeByIdCache, "employeeSnapshotCache", employeeSnapshotCache);
+        ReflectionTestUtils.setField(employeeByIdCache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(employeeByIdCache, "maxWeightBytes", 1_000_000L);
+        ReflectionTestUtils.setField(employeeByIdCache, "ttlMillis", 60_000L);
+        employeeByIdCache.init();
+        return employeeByIdCache;
+    }
 }
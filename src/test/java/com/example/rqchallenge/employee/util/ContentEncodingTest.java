@@ -0,0 +1,41 @@
+package com.example.rqchallenge.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentEncodingTest {
+
+    @Test
+    void whenNegotiating_thenHighestAcceptableQualityWinsWithGzipOnTies() {
+        assertThat(ContentEncoding.negotiate(null)).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(ContentEncoding.negotiate("gzip, deflate, br")).isEqualTo(ContentEncoding.GZIP);
+        assertThat(ContentEncoding.negotiate("gzip;q=0.5, deflate")).isEqualTo(ContentEncoding.DEFLATE);
+        assertThat(ContentEncoding.negotiate("br")).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(ContentEncoding.negotiate("gzip;q=0, *")).isEqualTo(ContentEncoding.DEFLATE);
+        assertThat(ContentEncoding.negotiate("gzip;q=0.4")).isEqualTo(ContentEncoding.IDENTITY);
+    }
+
+    @Test
+    void whenEncodedBodyIsCompressed_thenEachVariantIsBuiltOnceAndDecodesToTheBody() throws IOException {
+        byte[] json = "[{\"id\":1,\"employee_name\":\"Pran\"}]".repeat(100).getBytes(StandardCharsets.UTF_8);
+        Object source = new Object();
+        EncodedBody body = new EncodedBody(source, json);
+
+        byte[] gzip = body.bytes(ContentEncoding.GZIP);
+        byte[] deflate = body.bytes(ContentEncoding.DEFLATE);
+
+        assertThat(body.isOf(source)).isTrue();
+        assertThat(body.bytes(ContentEncoding.IDENTITY)).isSameAs(json);
+        assertThat(body.bytes(ContentEncoding.GZIP)).isSameAs(gzip);
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes()).isEqualTo(json);
+        assertThat(new InflaterInputStream(new ByteArrayInputStream(deflate)).readAllBytes()).isEqualTo(json);
+        assertThat(gzip.length).isLessThan(json.length);
+    }
+}
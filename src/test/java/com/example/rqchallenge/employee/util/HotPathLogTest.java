@@ -0,0 +1,30 @@
+package com.example.rqchallenge.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotPathLogTest {
+
+    @Test
+    void whenSummaryMode_thenListsAreCappedToMaxItems() {
+        HotPathLog hotPathLog = new HotPathLog(HotPathLog.Mode.SUMMARY, 1, 2, 512);
+
+        assertThat(hotPathLog.summary(List.of("a", "b", "c")).toString()).isEqualTo("3 items [a, b, ...]");
+
+        hotPathLog = new HotPathLog(HotPathLog.Mode.SUMMARY, 1, 2, 16);
+        assertThat(hotPathLog.summary((Object) "x".repeat(100)).toString()).isEqualTo("x".repeat(16) + "...");
+        assertThat(hotPathLog.summary((Object) null)).isNull();
+    }
+
+    @Test
+    void whenFullMode_thenPayloadsAreLoggedAsIsOnEveryRequest() {
+        HotPathLog hotPathLog = new HotPathLog(HotPathLog.Mode.FULL, 1000, 2, 512);
+        List<String> items = List.of("a", "b", "c");
+
+        assertThat(hotPathLog.summary(items)).isSameAs(items);
+        assertThat(hotPathLog.sampled()).isTrue();
+    }
+}